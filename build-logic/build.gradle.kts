@@ -21,6 +21,7 @@ dependencies {
     implementation(plugin(libs.plugins.com.github.spotbugs))
     implementation(plugin(libs.plugins.com.gradle.develocity))
     implementation(plugin(libs.plugins.de.thetaphi.forbiddenapis))
+    implementation(plugin(libs.plugins.me.champeau.jmh))
     implementation(plugin(libs.plugins.net.ltgt.errorprone))
     implementation(plugin(libs.plugins.net.ltgt.nullaway))
     implementation(plugin(libs.plugins.org.gradle.toolchains.foojay.resolver.convention))
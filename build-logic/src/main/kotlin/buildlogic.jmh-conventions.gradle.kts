@@ -0,0 +1,15 @@
+import net.ltgt.gradle.errorprone.errorprone
+
+plugins {
+    id("me.champeau.jmh")
+    `java-library`
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    profilers = listOf("gc")
+}
+
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone.isEnabled = false
+}
@@ -1,14 +1,20 @@
 plugins {
     id("buildlogic.java-conventions")
+    id("buildlogic.jmh-conventions")
     id("buildlogic.publishing-conventions")
 }
 
 dependencies {
     api(project(":markitect-liquibase-logging"))
     api(libs.org.liquibase.liquibase.core)
+    compileOnly(libs.com.microsoft.sqlserver.mssql.jdbc)
+    compileOnly(libs.org.postgresql.postgresql)
     compileOnly(libs.org.projectlombok.lombok)
     implementation(libs.com.google.guava.guava)
 
+    jmhRuntimeOnly(libs.com.h2database.h2)
+    jmhRuntimeOnly(libs.org.hsqldb.hsqldb)
+
     testCompileOnly(libs.org.projectlombok.lombok)
     testImplementation(libs.com.google.guava.guava)
     testImplementation(libs.org.junit.pioneer.junit.pioneer)
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import dev.markitect.liquibase.database.h2.MarkitectH2Database;
+import dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase;
+import dev.markitect.liquibase.statement.SchemaExistsStatement;
+import java.util.concurrent.TimeUnit;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.executor.ExecutorService;
+import liquibase.snapshot.SnapshotGeneratorFactory;
+import liquibase.structure.core.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class DatabasesBenchmark {
+  @Param({"h2", "hsqldb"})
+  public String dialect = "";
+
+  @SuppressWarnings("NullAway.Init")
+  private Database database;
+
+  @SuppressWarnings("NullAway.Init")
+  private SchemaExistsStatement statement;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    var databaseConnectionBuilder =
+        DatabaseConnectionBuilder.newBuilder().username("sa").password("");
+    if ("h2".equals(dialect)) {
+      database =
+          DatabaseBuilder.newBuilder(MarkitectH2Database.class)
+              .databaseConnection(databaseConnectionBuilder.url("jdbc:h2:mem:benchmark"))
+              .build();
+    } else {
+      database =
+          DatabaseBuilder.newBuilder(MarkitectHsqlDatabase.class)
+              .databaseConnection(databaseConnectionBuilder.url("jdbc:hsqldb:mem:benchmark"))
+              .build();
+    }
+    try (var stmt =
+        ((JdbcConnection) database.getConnection()).getUnderlyingConnection().createStatement()) {
+      stmt.execute("CREATE SCHEMA LBSCHEM2");
+    }
+    statement = new SchemaExistsStatement();
+    statement.setSchemaName("lbschem2");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    database.close();
+  }
+
+  @Benchmark
+  public boolean snapshotHas() throws Exception {
+    return SnapshotGeneratorFactory.getInstance().has(new Schema(null, "lbschem2"), database);
+  }
+
+  @Benchmark
+  public boolean schemaExistsStatement() throws Exception {
+    return isTrue(
+        liquibase.Scope.getCurrentScope()
+            .getSingleton(ExecutorService.class)
+            .getExecutor("jdbc", database)
+            .queryForObject(statement, Boolean.class));
+  }
+
+  @Benchmark
+  public boolean cachedSchemaExists() throws Exception {
+    return Databases.schemaExists(database, null, "lbschem2");
+  }
+}
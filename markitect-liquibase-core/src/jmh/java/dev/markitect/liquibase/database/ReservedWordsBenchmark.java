@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import java.util.concurrent.TimeUnit;
+import liquibase.database.Database;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class ReservedWordsBenchmark {
+  @Param({
+    "dev.markitect.liquibase.database.h2.MarkitectH2Database",
+    "dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase",
+    "dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase",
+    "dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase"
+  })
+  public String databaseClassName = "";
+
+  @Param({"customer_id", "select"})
+  public String word = "";
+
+  @SuppressWarnings("NullAway.Init")
+  private Database database;
+
+  @SuppressWarnings("NullAway.Init")
+  private Database liquibaseDatabase;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    var databaseClass = Class.forName(databaseClassName).asSubclass(Database.class);
+    database = DatabaseBuilder.newBuilder(databaseClass).offlineConnection().build();
+    liquibaseDatabase = (Database) databaseClass.getSuperclass().getConstructor().newInstance();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    database.close();
+    liquibaseDatabase.close();
+  }
+
+  @Benchmark
+  public boolean liquibaseIsReservedWord() {
+    return liquibaseDatabase.isReservedWord(word);
+  }
+
+  @Benchmark
+  public boolean markitectIsReservedWord() {
+    return database.isReservedWord(word);
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static java.util.stream.Collectors.joining;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase;
+import dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGenerator.ColumnValue;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import liquibase.change.ColumnConfig;
+import liquibase.database.Database;
+import liquibase.statement.core.InsertOrUpdateStatement;
+import liquibase.structure.core.Column;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// The gc profiler is enabled by the build; compare gc.alloc.rate.norm between streamJoining and preparedSqlBuilder
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class MarkitectInsertOrUpdateGeneratorBenchmark {
+  @Param({"4", "16"})
+  public int columnCount;
+
+  private final MarkitectInsertOrUpdateGeneratorPostgres generator =
+      new MarkitectInsertOrUpdateGeneratorPostgres();
+  private final InsertOrUpdateStatement statement =
+      new InsertOrUpdateStatement(null, "public", "tbl1", "id", false);
+
+  @SuppressWarnings("NullAway.Init")
+  private Database database;
+
+  @SuppressWarnings("NullAway.Init")
+  private List<ColumnConfig> columns;
+
+  @SuppressWarnings("NullAway.Init")
+  private List<ColumnValue> columnValues;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class).offlineConnection().build();
+    columns = new ArrayList<>(columnCount);
+    columnValues = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      var name = i == 0 ? "id" : "col" + i;
+      var column = new ColumnConfig().setName(name).setValue("value" + i);
+      columns.add(column);
+      columnValues.add(new ColumnValue(column, name, column.getValueObject(), true, i == 0, true));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    database.close();
+  }
+
+  @Benchmark
+  public String streamJoining() {
+    return streamJoiningSql(database, statement, columnValues);
+  }
+
+  @Benchmark
+  public PreparedSql preparedSqlBuilder() {
+    return generator.prepareInsertOrUpdateSql(database, statement, columnValues);
+  }
+
+  @Benchmark
+  public PreparedSql cachedPrepareSql() {
+    return generator.prepareSql(database, statement, columns);
+  }
+
+  // The string concatenation and stream pipelines the generators used before PreparedSqlBuilder
+  private static String streamJoiningSql(
+      Database database, InsertOrUpdateStatement statement, List<ColumnValue> columnValues) {
+    var keyValues = columnValues.stream().filter(ColumnValue::isPrimaryKeyColumn).toList();
+    var updateValues =
+        columnValues.stream()
+            .filter(columnValue -> !columnValue.isPrimaryKeyColumn() && columnValue.isAllowUpdate())
+            .toList();
+    return "INSERT INTO "
+        + database.escapeTableName(
+            statement.getCatalogName(), statement.getSchemaName(), statement.getTableName())
+        + " ("
+        + columnValues.stream()
+            .map(ColumnValue::getName)
+            .map(columnName -> database.escapeObjectName(columnName, Column.class))
+            .collect(joining(", "))
+        + ") VALUES ("
+        + columnValues.stream().map(columnValue -> "?").collect(joining(", "))
+        + ") ON CONFLICT ("
+        + keyValues.stream()
+            .map(ColumnValue::getName)
+            .map(columnName -> database.escapeObjectName(columnName, Column.class))
+            .collect(joining(", "))
+        + ") DO UPDATE SET "
+        + updateValues.stream()
+            .map(
+                columnValue ->
+                    database.escapeObjectName(columnValue.getName(), Column.class) + " = ?")
+            .collect(joining(", "));
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.util;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class StringsBenchmark {
+  private static final Pattern LEGAL_IDENTIFIER_PATTERN = Pattern.compile("[a-zA-Z_]\\w*");
+
+  @Param({"customer_id", "CustomerOrderDetails", "order details"})
+  public String objectName = "";
+
+  // The regex check and case copies mustQuoteObjectName used before scanIdentifier
+  @Benchmark
+  public boolean patternAndCaseCopies() {
+    return LEGAL_IDENTIFIER_PATTERN.matcher(objectName).matches()
+        && objectName.equals(objectName.toLowerCase(Locale.US));
+  }
+
+  @Benchmark
+  public boolean scanIdentifier() {
+    return Strings.scanIdentifier(objectName).isLowerCase();
+  }
+}
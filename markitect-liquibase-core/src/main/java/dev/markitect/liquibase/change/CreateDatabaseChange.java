@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package dev.markitect.liquibase.change;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import dev.markitect.liquibase.database.ExistenceCache;
+import dev.markitect.liquibase.precondition.PreconditionMemo;
 import dev.markitect.liquibase.statement.CreateDatabaseStatement;
 import liquibase.change.AbstractChange;
 import liquibase.change.Change;
@@ -62,6 +64,8 @@ public class CreateDatabaseChange extends AbstractChange {
   @Override
   public SqlStatement[] generateStatements(Database database) {
     checkNotNull(database);
+    ExistenceCache.invalidate(database);
+    PreconditionMemo.invalidate(database);
     var statement = new CreateDatabaseStatement();
     statement.setDatabaseName(databaseName);
     return new SqlStatement[] {statement};
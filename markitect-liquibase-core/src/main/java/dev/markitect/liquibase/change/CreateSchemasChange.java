@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.change;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import com.google.errorprone.annotations.Var;
+import dev.markitect.liquibase.database.ExistenceCache;
+import dev.markitect.liquibase.precondition.PreconditionMemo;
+import dev.markitect.liquibase.statement.CreateSchemasStatement;
+import java.util.List;
+import liquibase.change.AbstractChange;
+import liquibase.change.Change;
+import liquibase.change.ChangeMetaData;
+import liquibase.change.DatabaseChange;
+import liquibase.change.DatabaseChangeProperty;
+import liquibase.database.Database;
+import liquibase.database.OfflineConnection;
+import liquibase.exception.ValidationErrors;
+import liquibase.statement.SqlStatement;
+import org.jspecify.annotations.Nullable;
+
+@DatabaseChange(
+    name = "createSchemas",
+    description = "Creates schemas in bulk",
+    priority = ChangeMetaData.PRIORITY_DEFAULT,
+    appliesTo = "schema")
+@SuppressWarnings("squid:S2160")
+public class CreateSchemasChange extends AbstractChange {
+  private @Nullable String catalogName;
+  private @Nullable String schemaNames;
+  private @Nullable String schemaNamePattern;
+  private @Nullable Integer startIndex;
+  private @Nullable Integer endIndex;
+  private @Nullable Boolean ifNotExists;
+
+  @DatabaseChangeProperty(
+      description = "Name of the database catalog",
+      mustEqualExisting = "schema.catalog")
+  @SuppressWarnings("unused")
+  public @Nullable String getCatalogName() {
+    return catalogName;
+  }
+
+  public void setCatalogName(@Nullable String catalogName) {
+    this.catalogName = catalogName;
+  }
+
+  @DatabaseChangeProperty(description = "Comma-separated names of the database schemas to create")
+  @SuppressWarnings("unused")
+  public @Nullable String getSchemaNames() {
+    return schemaNames;
+  }
+
+  public void setSchemaNames(@Nullable String schemaNames) {
+    this.schemaNames = schemaNames;
+  }
+
+  @DatabaseChangeProperty(
+      description =
+          "Format of the schema names to create, applied to every index from startIndex to "
+              + "endIndex, e.g. tenant_%03d")
+  @SuppressWarnings("unused")
+  public @Nullable String getSchemaNamePattern() {
+    return schemaNamePattern;
+  }
+
+  public void setSchemaNamePattern(@Nullable String schemaNamePattern) {
+    this.schemaNamePattern = schemaNamePattern;
+  }
+
+  @DatabaseChangeProperty(description = "First index of schemaNamePattern, inclusive")
+  @SuppressWarnings("unused")
+  public @Nullable Integer getStartIndex() {
+    return startIndex;
+  }
+
+  public void setStartIndex(@Nullable Integer startIndex) {
+    this.startIndex = startIndex;
+  }
+
+  @DatabaseChangeProperty(description = "Last index of schemaNamePattern, inclusive")
+  @SuppressWarnings("unused")
+  public @Nullable Integer getEndIndex() {
+    return endIndex;
+  }
+
+  public void setEndIndex(@Nullable Integer endIndex) {
+    this.endIndex = endIndex;
+  }
+
+  @DatabaseChangeProperty(description = "Whether to skip the schemas that already exist")
+  @SuppressWarnings("unused")
+  public @Nullable Boolean getIfNotExists() {
+    return ifNotExists;
+  }
+
+  public void setIfNotExists(@Nullable Boolean ifNotExists) {
+    this.ifNotExists = ifNotExists;
+  }
+
+  List<String> resolveSchemaNames() {
+    return SchemaNames.resolve(schemaNames, schemaNamePattern, startIndex, endIndex);
+  }
+
+  @Override
+  protected Change[] createInverses() {
+    var inverse = new DropSchemasChange();
+    inverse.setCatalogName(catalogName);
+    inverse.setSchemaNames(schemaNames);
+    inverse.setSchemaNamePattern(schemaNamePattern);
+    inverse.setStartIndex(startIndex);
+    inverse.setEndIndex(endIndex);
+    inverse.setIfExists(ifNotExists);
+    return new Change[] {inverse};
+  }
+
+  @Override
+  public String getConfirmationMessage() {
+    return resolveSchemaNames().size()
+        + " schemas "
+        + (catalogName != null ? "in " + catalogName + " " : "")
+        + "created";
+  }
+
+  @Override
+  public boolean generateStatementsVolatile(Database database) {
+    return isTrue(ifNotExists);
+  }
+
+  @Override
+  public ValidationErrors validate(Database database) {
+    checkNotNull(database);
+    var errors = new ValidationErrors();
+    SchemaNames.validate(errors, schemaNamePattern, startIndex, endIndex);
+    if (errors.hasErrors()) {
+      return errors;
+    }
+    return super.validate(database);
+  }
+
+  @Override
+  public SqlStatement[] generateStatements(Database database) {
+    checkNotNull(database);
+    @Var List<String> names = resolveSchemaNames();
+    if (isTrue(ifNotExists) && isOnline(database)) {
+      names = SchemaNames.filter(database, catalogName, names, false);
+      if (names.isEmpty()) {
+        return new SqlStatement[0];
+      }
+    }
+    ExistenceCache.invalidate(database);
+    PreconditionMemo.invalidate(database);
+    var statement = new CreateSchemasStatement();
+    statement.setCatalogName(catalogName);
+    statement.setSchemaNames(names);
+    return new SqlStatement[] {statement};
+  }
+
+  private static boolean isOnline(Database database) {
+    var connection = database.getConnection();
+    return connection != null && !(connection instanceof OfflineConnection);
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.change;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.errorprone.annotations.Var;
+import dev.markitect.liquibase.statement.BulkLoadColumn;
+import dev.markitect.liquibase.statement.CsvReaderSupplier;
+import dev.markitect.liquibase.statement.LoadDataValues;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import liquibase.change.core.LoadDataColumnConfig;
+import liquibase.exception.LiquibaseException;
+import org.jspecify.annotations.Nullable;
+
+final class LoadDataColumns {
+  static Optional<LoadDataColumnConfig> findColumnConfig(
+      List<LoadDataColumnConfig> columns, int index, String header) {
+    checkNotNull(columns);
+    checkNotNull(header);
+    return columns.stream()
+        .filter(
+            column ->
+                Integer.valueOf(index).equals(column.getIndex())
+                    || header.equalsIgnoreCase(column.getHeader())
+                    || (column.getHeader() == null
+                        && column.getIndex() == null
+                        && header.equalsIgnoreCase(column.getName())))
+        .findFirst();
+  }
+
+  static @Nullable List<BulkLoadColumn> findBulkLoadColumns(
+      List<LoadDataColumnConfig> columnConfigs,
+      CsvReaderSupplier csvReaderSupplier,
+      @Nullable String commentLineStartsWith) {
+    checkNotNull(columnConfigs);
+    checkNotNull(csvReaderSupplier);
+    try (var reader = csvReaderSupplier.get()) {
+      String[] headers = reader.readNext();
+      if (headers == null) {
+        return null;
+      }
+      var columns = toBulkLoadColumns(columnConfigs, headers);
+      if (columns == null) {
+        return null;
+      }
+      @Var String[] line;
+      while ((line = reader.readNext()) != null) {
+        if (!isBulkLoadLine(columns, headers.length, line, commentLineStartsWith)) {
+          return null;
+        }
+      }
+      return columns;
+    } catch (IOException | LiquibaseException e) {
+      // Let the regular loadData path report the problem
+      return null;
+    }
+  }
+
+  // Unlike findBulkLoadColumns, only reads the header, leaving the values to the bulk load itself
+  static @Nullable List<BulkLoadColumn> findHeaderBulkLoadColumns(
+      List<LoadDataColumnConfig> columnConfigs, CsvReaderSupplier csvReaderSupplier) {
+    checkNotNull(columnConfigs);
+    checkNotNull(csvReaderSupplier);
+    try (var reader = csvReaderSupplier.get()) {
+      String[] headers = reader.readNext();
+      return headers != null ? toBulkLoadColumns(columnConfigs, headers) : null;
+    } catch (IOException | LiquibaseException e) {
+      return null;
+    }
+  }
+
+  static @Nullable List<BulkLoadColumn> toBulkLoadColumns(
+      List<LoadDataColumnConfig> columnConfigs, String[] headers) {
+    var columns = new ArrayList<BulkLoadColumn>();
+    for (int i = 0; i < headers.length; i++) {
+      String header = headers[i].trim();
+      var columnConfig = findColumnConfig(columnConfigs, i, header).orElse(null);
+      if (columnConfig == null || columnConfig.getDefaultValueObject() != null) {
+        return null;
+      }
+      if (!"SKIP".equalsIgnoreCase(columnConfig.getType())) {
+        if (!LoadDataValues.isBulkLoadType(columnConfig.getType())) {
+          return null;
+        }
+        columns.add(
+            new BulkLoadColumn(
+                i,
+                Optional.ofNullable(columnConfig.getName()).orElse(header),
+                checkNotNull(columnConfig.getType())));
+      }
+    }
+    return columns;
+  }
+
+  // Comment lines pass, data lines must have a bulk loadable value for every column
+  static boolean isBulkLoadLine(
+      List<BulkLoadColumn> columns,
+      int headerCount,
+      String[] line,
+      @Nullable String commentLineStartsWith) {
+    if (!LoadDataValues.isDataLine(line, commentLineStartsWith)) {
+      return true;
+    }
+    if (line.length != headerCount) {
+      return false;
+    }
+    for (var column : columns) {
+      if (!LoadDataValues.isBulkLoadValue(column.getType(), line[column.getIndex()])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private LoadDataColumns() {}
+}
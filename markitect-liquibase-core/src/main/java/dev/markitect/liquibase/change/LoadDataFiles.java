@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.change;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import com.google.common.base.CharMatcher;
+import com.google.common.io.CountingInputStream;
+import com.google.errorprone.annotations.Var;
+import dev.markitect.liquibase.statement.BulkLoadColumn;
+import dev.markitect.liquibase.statement.CsvReaderSupplier;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import dev.markitect.liquibase.util.PartitionInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import liquibase.Scope;
+import liquibase.change.ColumnConfig;
+import liquibase.change.core.LoadDataChange;
+import liquibase.database.Database;
+import liquibase.resource.Resource;
+import liquibase.structure.core.Column;
+import liquibase.structure.core.Table;
+import liquibase.util.StreamUtil;
+import liquibase.util.csv.CSVReader;
+import org.jspecify.annotations.Nullable;
+
+final class LoadDataFiles {
+  static final int DEFAULT_BATCH_SIZE = 1000;
+  static final int DEFAULT_READ_BUFFER_SIZE = 64 * 1024;
+
+  private static final CharMatcher LINE_BREAK = CharMatcher.anyOf("\r\n");
+
+  static CSVReader openCsvReader(LoadDataChange change, int readBufferSize) throws IOException {
+    checkNotNull(change);
+    return newCsvReader(change, getResource(change).openInputStream(), readBufferSize);
+  }
+
+  // Splits the file into byte ranges of whole lines, checking in the same pass that every line can
+  // be bulk loaded, or returns null if either is not possible
+  static @Nullable PartitionedFile partition(
+      LoadDataChange change, int partitionCount, int readBufferSize) {
+    checkNotNull(change);
+    checkArgument(partitionCount > 0, "partitionCount must be greater than 0");
+    if (!isSingleByteLineFeed(change.getEncoding())) {
+      return null;
+    }
+    Resource resource;
+    List<BulkLoadColumn> columns;
+    long size;
+    try {
+      // Resolved here, as the worker threads loading the ranges do not share this scope
+      resource = getResource(change);
+      try (var stream = new CountingInputStream(resource.openInputStream());
+          var reader = newCsvReader(change, stream, readBufferSize)) {
+        String[] headers = reader.readNext();
+        if (headers == null) {
+          return null;
+        }
+        columns = LoadDataColumns.toBulkLoadColumns(change.getColumns(), headers);
+        if (columns == null) {
+          return null;
+        }
+        if (hasLineBreak(headers)) {
+          return null;
+        }
+        @Var String[] line;
+        while ((line = reader.readNext()) != null) {
+          if (hasLineBreak(line)
+              || !LoadDataColumns.isBulkLoadLine(
+                  columns, headers.length, line, change.getCommentLineStartsWith())) {
+            return null;
+          }
+        }
+        size = stream.getCount();
+      }
+    } catch (IOException e) {
+      return null;
+    }
+    var partitions = new ArrayList<CsvReaderSupplier>(partitionCount);
+    for (int i = 0; i < partitionCount; i++) {
+      long start = size * i / partitionCount;
+      long end = size * (i + 1) / partitionCount;
+      partitions.add(
+          () -> {
+            var reader =
+                newCsvReader(
+                    change,
+                    new PartitionInputStream(resource.openInputStream(), start, end),
+                    readBufferSize);
+            if (start == 0) {
+              // The range starting at the beginning of the file holds the header
+              reader.readNext();
+            }
+            return reader;
+          });
+    }
+    return new PartitionedFile(columns, partitions);
+  }
+
+  static PreparedSql prepareInsertSql(
+      Database database, LoadDataChange change, List<BulkLoadColumn> columns) {
+    checkNotNull(database);
+    checkNotNull(change);
+    checkNotNull(columns);
+    String sql =
+        "INSERT INTO "
+            + database.escapeTableName(
+                change.getCatalogName(), change.getSchemaName(), change.getTableName())
+            + " ("
+            + columns.stream()
+                .map(BulkLoadColumn::getName)
+                .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                .collect(joining(", "))
+            + ") VALUES ("
+            + columns.stream().map(column -> "?").collect(joining(", "))
+            + ")";
+    return new PreparedSql(
+        sql,
+        toTemplateColumns(columns),
+        new Table(change.getCatalogName(), change.getSchemaName(), change.getTableName()));
+  }
+
+  static List<ColumnConfig> toTemplateColumns(List<BulkLoadColumn> columns) {
+    checkNotNull(columns);
+    return columns.stream().map(column -> new ColumnConfig().setName(column.getName())).toList();
+  }
+
+  private static Resource getResource(LoadDataChange change) throws IOException {
+    String file = checkNotNull(change.getFile(), "file");
+    var resourceAccessor = Scope.getCurrentScope().getResourceAccessor();
+    var changeSet = change.getChangeSet();
+    return isTrue(change.isRelativeToChangelogFile()) && changeSet != null
+        ? resourceAccessor.get(changeSet.getFilePath()).resolveSibling(file)
+        : resourceAccessor.getExisting(file);
+  }
+
+  private static CSVReader newCsvReader(
+      LoadDataChange change, InputStream stream, int readBufferSize) throws IOException {
+    checkArgument(readBufferSize > 0, "readBufferSize must be greater than 0");
+    var reader =
+        new BufferedReader(
+            StreamUtil.readStreamWithReader(stream, change.getEncoding()), readBufferSize);
+    String separator = change.getSeparator();
+    String quotchar = change.getQuotchar();
+    return new CSVReader(
+        reader,
+        isNullOrEmpty(separator) ? CSVReader.DEFAULT_SEPARATOR : separator.charAt(0),
+        isNullOrEmpty(quotchar) ? '\0' : quotchar.charAt(0));
+  }
+
+  // A quoted value spanning lines could be split between two ranges
+  private static boolean hasLineBreak(String[] line) {
+    return Arrays.stream(line).anyMatch(LINE_BREAK::matchesAnyOf);
+  }
+
+  private static boolean isSingleByteLineFeed(@Nullable String encoding) {
+    try {
+      var charset = encoding == null ? UTF_8 : Charset.forName(encoding);
+      return Arrays.equals("\n".getBytes(charset), new byte[] {'\n'});
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private LoadDataFiles() {}
+
+  static final class PartitionedFile {
+    private final List<BulkLoadColumn> columns;
+    private final List<CsvReaderSupplier> partitions;
+
+    private PartitionedFile(List<BulkLoadColumn> columns, List<CsvReaderSupplier> partitions) {
+      this.columns = List.copyOf(columns);
+      this.partitions = List.copyOf(partitions);
+    }
+
+    List<BulkLoadColumn> getColumns() {
+      return columns;
+    }
+
+    List<CsvReaderSupplier> getPartitions() {
+      return partitions;
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,22 +16,102 @@
 
 package dev.markitect.liquibase.change;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import dev.markitect.liquibase.database.ConnectionSupplier;
+import dev.markitect.liquibase.database.Databases;
+import dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase;
+import dev.markitect.liquibase.statement.CopyFromStdinStatement;
+import dev.markitect.liquibase.statement.CsvReaderSupplier;
+import dev.markitect.liquibase.statement.ParallelLoadDataStatement;
+import dev.markitect.liquibase.statement.StreamingLoadDataStatement;
+import java.util.Optional;
+import liquibase.Scope;
 import liquibase.change.ChangeMetaData;
 import liquibase.change.DatabaseChange;
+import liquibase.change.DatabaseChangeProperty;
 import liquibase.change.core.LoadDataChange;
 import liquibase.database.Database;
 import liquibase.database.core.H2Database;
 import liquibase.database.core.HsqlDatabase;
 import liquibase.database.core.MSSQLDatabase;
 import liquibase.database.core.PostgresDatabase;
+import liquibase.exception.ValidationErrors;
+import liquibase.statement.SqlStatement;
+import org.jspecify.annotations.Nullable;
 
 @DatabaseChange(
     name = "loadData",
     description = "Loads data from a CSV file into an existing table",
     priority = ChangeMetaData.PRIORITY_DEFAULT + 5,
     appliesTo = "table")
-@SuppressWarnings("squid:S110")
+@SuppressWarnings({"squid:S110", "squid:S2160"})
 public class MarkitectLoadDataChange extends LoadDataChange {
+  private @Nullable Boolean useCopy;
+  private @Nullable Boolean streaming;
+  private @Nullable Integer batchSize;
+  private @Nullable Integer readBufferSize;
+  private @Nullable Integer parallelism;
+
+  @DatabaseChangeProperty(
+      description = "Whether to stream the file with COPY FROM STDIN on PostgreSQL, if possible")
+  public @Nullable Boolean getUseCopy() {
+    return useCopy;
+  }
+
+  @SuppressWarnings("unused")
+  public void setUseCopy(@Nullable Boolean useCopy) {
+    this.useCopy = useCopy;
+  }
+
+  @DatabaseChangeProperty(
+      description =
+          "Whether to stream the file row by row instead of generating a statement per row, "
+              + "if all columns have a declared type")
+  public @Nullable Boolean getStreaming() {
+    return streaming;
+  }
+
+  @SuppressWarnings("unused")
+  public void setStreaming(@Nullable Boolean streaming) {
+    this.streaming = streaming;
+  }
+
+  @DatabaseChangeProperty(
+      description = "Number of rows per JDBC batch when streaming or loading in parallel")
+  public @Nullable Integer getBatchSize() {
+    return batchSize;
+  }
+
+  @SuppressWarnings("unused")
+  public void setBatchSize(@Nullable Integer batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  @DatabaseChangeProperty(description = "Size in characters of the buffer used to read the file")
+  public @Nullable Integer getReadBufferSize() {
+    return readBufferSize;
+  }
+
+  @SuppressWarnings("unused")
+  public void setReadBufferSize(@Nullable Integer readBufferSize) {
+    this.readBufferSize = readBufferSize;
+  }
+
+  @DatabaseChangeProperty(
+      description =
+          "Number of connections to load byte ranges of the file on in parallel, requires "
+              + "runInTransaction=\"false\" and a DataSource")
+  public @Nullable Integer getParallelism() {
+    return parallelism;
+  }
+
+  @SuppressWarnings("unused")
+  public void setParallelism(@Nullable Integer parallelism) {
+    this.parallelism = parallelism;
+  }
+
   @Override
   public boolean supports(Database database) {
     return database instanceof H2Database
@@ -44,4 +124,135 @@ public class MarkitectLoadDataChange extends LoadDataChange {
   public boolean generateStatementsVolatile(Database database) {
     return getColumns().stream().anyMatch(column -> column.getType() == null);
   }
+
+  @Override
+  public ValidationErrors validate(Database database) {
+    checkNotNull(database);
+    var errors = super.validate(database);
+    if (batchSize != null && batchSize <= 0) {
+      errors.addError("batchSize must be greater than 0");
+    }
+    if (readBufferSize != null && readBufferSize <= 0) {
+      errors.addError("readBufferSize must be greater than 0");
+    }
+    if (parallelism != null && parallelism <= 0) {
+      errors.addError("parallelism must be greater than 0");
+    }
+    if (parallelism != null
+        && parallelism > 1
+        && getChangeSet() != null
+        && getChangeSet().isRunInTransaction()) {
+      errors.addError("parallelism requires runInTransaction=\"false\"");
+    }
+    return errors;
+  }
+
+  @Override
+  public SqlStatement[] generateStatements(Database database) {
+    checkNotNull(database);
+    if (parallelism != null && parallelism > 1) {
+      var statement = createParallelStatement(database, parallelism);
+      if (statement != null) {
+        return new SqlStatement[] {statement};
+      }
+      Scope.getCurrentScope()
+          .getLog(getClass())
+          .info("Cannot load " + getFile() + " in parallel, loading it on a single connection");
+    }
+    if (database instanceof MarkitectPostgresDatabase
+        && isTrue(useCopy)
+        && CopyFromStdinStatement.isSupported(database)) {
+      var statement = createCopyStatement(database);
+      if (statement != null) {
+        return new SqlStatement[] {statement};
+      }
+      Scope.getCurrentScope()
+          .getLog(getClass())
+          .info("Cannot copy " + getFile() + ", loading it with regular statements");
+    }
+    if (isTrue(streaming)) {
+      var statement = createStreamingStatement(database);
+      if (statement != null) {
+        return new SqlStatement[] {statement};
+      }
+      Scope.getCurrentScope()
+          .getLog(getClass())
+          .info("Cannot stream " + getFile() + ", loading it with a statement per row");
+    }
+    return super.generateStatements(database);
+  }
+
+  private @Nullable CopyFromStdinStatement createCopyStatement(Database database) {
+    // A COPY cannot fall back once it started, so every value is checked before choosing it
+    var columns =
+        LoadDataColumns.findBulkLoadColumns(
+            getColumns(), this::getCSVReader, getCommentLineStartsWith());
+    if (columns == null) {
+      return null;
+    }
+    return new CopyFromStdinStatement(
+        database,
+        getCatalogName(),
+        getSchemaName(),
+        getTableName(),
+        columns,
+        this::getCSVReader,
+        getCommentLineStartsWith());
+  }
+
+  private @Nullable ParallelLoadDataStatement createParallelStatement(
+      Database database, int parallelism) {
+    // A parallel load has no SQL to print, so update-sql gets a statement per row
+    if (!Databases.supportsPreparedQueries(database)) {
+      return null;
+    }
+    var connectionSupplier = ConnectionSupplier.current();
+    if (connectionSupplier == null
+        || getChangeSet() == null
+        || getChangeSet().isRunInTransaction()) {
+      return null;
+    }
+    int bufferSize =
+        Optional.ofNullable(readBufferSize).orElse(LoadDataFiles.DEFAULT_READ_BUFFER_SIZE);
+    var partitionedFile = LoadDataFiles.partition(this, parallelism, bufferSize);
+    if (partitionedFile == null) {
+      return null;
+    }
+    var columns = partitionedFile.getColumns();
+    return new ParallelLoadDataStatement(
+        database,
+        getTableName(),
+        LoadDataFiles.prepareInsertSql(database, this, columns),
+        columns,
+        partitionedFile.getPartitions(),
+        getCommentLineStartsWith(),
+        Optional.ofNullable(batchSize).orElse(LoadDataFiles.DEFAULT_BATCH_SIZE),
+        connectionSupplier,
+        parallelism);
+  }
+
+  private @Nullable StreamingLoadDataStatement createStreamingStatement(Database database) {
+    // A streaming load has no SQL to print, so update-sql gets a statement per row
+    if (!Databases.supportsPreparedQueries(database)) {
+      return null;
+    }
+    CsvReaderSupplier csvReaderSupplier =
+        () ->
+            LoadDataFiles.openCsvReader(
+                this,
+                Optional.ofNullable(readBufferSize).orElse(LoadDataFiles.DEFAULT_READ_BUFFER_SIZE));
+    // The values are checked while streaming, which saves reading the whole file twice
+    var columns = LoadDataColumns.findHeaderBulkLoadColumns(getColumns(), csvReaderSupplier);
+    if (columns == null) {
+      return null;
+    }
+    return new StreamingLoadDataStatement(
+        database,
+        getTableName(),
+        LoadDataFiles.prepareInsertSql(database, this, columns),
+        columns,
+        csvReaderSupplier,
+        getCommentLineStartsWith(),
+        Optional.ofNullable(batchSize).orElse(LoadDataFiles.DEFAULT_BATCH_SIZE));
+  }
 }
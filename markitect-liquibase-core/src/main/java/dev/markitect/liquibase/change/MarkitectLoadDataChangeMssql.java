@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import dev.markitect.liquibase.statement.SetIdentityInsertStatement;
 import dev.markitect.liquibase.statement.SetIdentityInsertStatement.IdentityInsert;
+import dev.markitect.liquibase.statement.SqlServerBulkCopyStatement;
 import java.util.Arrays;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -30,6 +31,7 @@ import liquibase.change.DatabaseChangeProperty;
 import liquibase.change.core.LoadDataChange;
 import liquibase.database.Database;
 import liquibase.database.core.MSSQLDatabase;
+import liquibase.exception.ValidationErrors;
 import liquibase.statement.SqlStatement;
 import org.jspecify.annotations.Nullable;
 
@@ -41,6 +43,9 @@ import org.jspecify.annotations.Nullable;
 @SuppressWarnings({"squid:S110", "squid:S2160"})
 public class MarkitectLoadDataChangeMssql extends LoadDataChange {
   private @Nullable Boolean identityInsert;
+  private @Nullable Boolean bulkCopy;
+  private @Nullable Integer bulkCopyBatchSize;
+  private @Nullable Boolean bulkCopyTableLock;
 
   @DatabaseChangeProperty(description = "Whether to set IDENTITY_INSERT")
   public @Nullable Boolean getIdentityInsert() {
@@ -52,15 +57,76 @@ public class MarkitectLoadDataChangeMssql extends LoadDataChange {
     this.identityInsert = identityInsert;
   }
 
+  @DatabaseChangeProperty(
+      description = "Whether to load the file with SQLServerBulkCopy, if the driver supports it")
+  public @Nullable Boolean getBulkCopy() {
+    return bulkCopy;
+  }
+
+  @SuppressWarnings("unused")
+  public void setBulkCopy(@Nullable Boolean bulkCopy) {
+    this.bulkCopy = bulkCopy;
+  }
+
+  @DatabaseChangeProperty(description = "Number of rows in each bulk copy batch")
+  public @Nullable Integer getBulkCopyBatchSize() {
+    return bulkCopyBatchSize;
+  }
+
+  @SuppressWarnings("unused")
+  public void setBulkCopyBatchSize(@Nullable Integer bulkCopyBatchSize) {
+    this.bulkCopyBatchSize = bulkCopyBatchSize;
+  }
+
+  @DatabaseChangeProperty(description = "Whether to hold a table lock for the bulk copy")
+  public @Nullable Boolean getBulkCopyTableLock() {
+    return bulkCopyTableLock;
+  }
+
+  @SuppressWarnings("unused")
+  public void setBulkCopyTableLock(@Nullable Boolean bulkCopyTableLock) {
+    this.bulkCopyTableLock = bulkCopyTableLock;
+  }
+
   @Override
   public boolean supports(Database database) {
     checkNotNull(database);
     return database instanceof MSSQLDatabase;
   }
 
+  @Override
+  public ValidationErrors validate(Database database) {
+    checkNotNull(database);
+    var errors = super.validate(database);
+    if (bulkCopyBatchSize != null && bulkCopyBatchSize <= 0) {
+      errors.addError("bulkCopyBatchSize must be greater than 0");
+    }
+    return errors;
+  }
+
   @Override
   @SuppressWarnings("DuplicatedCode")
   public SqlStatement[] generateStatements(Database database) {
+    if (isTrue(bulkCopy) && SqlServerBulkCopyStatement.isSupported(database)) {
+      var columns =
+          LoadDataColumns.findBulkLoadColumns(
+              getColumns(), this::getCSVReader, getCommentLineStartsWith());
+      if (columns != null) {
+        return new SqlStatement[] {
+          new SqlServerBulkCopyStatement(
+              database,
+              getCatalogName(),
+              getSchemaName(),
+              getTableName(),
+              columns,
+              this::getCSVReader,
+              getCommentLineStartsWith(),
+              isTrue(getIdentityInsert()),
+              isTrue(bulkCopyTableLock),
+              bulkCopyBatchSize)
+        };
+      }
+    }
     if (isTrue(getIdentityInsert())) {
       return Stream.of(
               Stream.of(
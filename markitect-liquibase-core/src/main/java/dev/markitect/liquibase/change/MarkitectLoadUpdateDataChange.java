@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,18 +19,45 @@ package dev.markitect.liquibase.change;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
+import com.google.errorprone.annotations.Var;
+import dev.markitect.liquibase.database.Databases;
 import dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGenerator;
+import dev.markitect.liquibase.sqlgenerator.MultiRowInsertOrUpdateGenerator;
+import dev.markitect.liquibase.statement.BatchInsertOrUpdateExecutablePreparedStatement;
+import dev.markitect.liquibase.statement.BindParameterChunker;
+import dev.markitect.liquibase.statement.CheckStagingKeysStatement;
+import dev.markitect.liquibase.statement.CreateStagingTableStatement;
+import dev.markitect.liquibase.statement.CsvReaderSupplier;
 import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement;
+import dev.markitect.liquibase.statement.StreamingLoadDataStatement;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import liquibase.Scope;
 import liquibase.change.ChangeMetaData;
+import liquibase.change.ColumnConfig;
 import liquibase.change.DatabaseChange;
+import liquibase.change.DatabaseChangeProperty;
 import liquibase.change.core.LoadDataColumnConfig;
 import liquibase.change.core.LoadUpdateDataChange;
 import liquibase.changelog.ChangeSet;
 import liquibase.database.Database;
+import liquibase.exception.LiquibaseException;
+import liquibase.exception.UnexpectedLiquibaseException;
+import liquibase.exception.ValidationErrors;
 import liquibase.resource.ResourceAccessor;
 import liquibase.sqlgenerator.SqlGeneratorFactory;
+import liquibase.statement.SqlStatement;
+import liquibase.statement.core.DropTableStatement;
 import liquibase.statement.core.InsertOrUpdateStatement;
+import liquibase.statement.core.RawSqlStatement;
+import org.jspecify.annotations.Nullable;
 
 @DatabaseChange(
     name = "loadUpdateData",
@@ -45,8 +72,89 @@ import liquibase.statement.core.InsertOrUpdateStatement;
         """,
     priority = ChangeMetaData.PRIORITY_DEFAULT + 5,
     appliesTo = "table")
-@SuppressWarnings("squid:S110")
+@SuppressWarnings({"squid:S110", "squid:S2160"})
 public class MarkitectLoadUpdateDataChange extends LoadUpdateDataChange {
+  private static final String STRATEGY_ROW = "row";
+  private static final String STRATEGY_STAGING = "staging";
+
+  private @Nullable Integer batchSize;
+  private @Nullable Integer rowsPerStatement;
+  private @Nullable String strategy;
+  private @Nullable String stagingTableName;
+  private @Nullable Boolean streaming;
+  private @Nullable Integer readBufferSize;
+
+  @DatabaseChangeProperty(
+      description = "Number of rows to send per JDBC batch when using prepared statements")
+  public @Nullable Integer getBatchSize() {
+    return batchSize;
+  }
+
+  @SuppressWarnings("unused")
+  public void setBatchSize(@Nullable Integer batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  @DatabaseChangeProperty(
+      description = "Maximum number of rows per multi-row upsert statement, where supported")
+  public @Nullable Integer getRowsPerStatement() {
+    return rowsPerStatement;
+  }
+
+  @SuppressWarnings("unused")
+  public void setRowsPerStatement(@Nullable Integer rowsPerStatement) {
+    this.rowsPerStatement = rowsPerStatement;
+  }
+
+  @DatabaseChangeProperty(
+      description =
+          "How rows are applied: 'row' upserts each row, 'staging' bulk loads the file into a "
+              + "staging table and merges it in a single statement")
+  public @Nullable String getStrategy() {
+    return strategy;
+  }
+
+  @SuppressWarnings("unused")
+  public void setStrategy(@Nullable String strategy) {
+    this.strategy = strategy;
+  }
+
+  @DatabaseChangeProperty(
+      description =
+          "Name of the staging table used by the 'staging' strategy, defaults to the table name "
+              + "suffixed with '_staging'")
+  public @Nullable String getStagingTableName() {
+    return stagingTableName;
+  }
+
+  @SuppressWarnings("unused")
+  public void setStagingTableName(@Nullable String stagingTableName) {
+    this.stagingTableName = stagingTableName;
+  }
+
+  @DatabaseChangeProperty(
+      description =
+          "Whether to stream the file row by row instead of generating a statement per row, "
+              + "if all columns have a declared type")
+  public @Nullable Boolean getStreaming() {
+    return streaming;
+  }
+
+  @SuppressWarnings("unused")
+  public void setStreaming(@Nullable Boolean streaming) {
+    this.streaming = streaming;
+  }
+
+  @DatabaseChangeProperty(description = "Size in characters of the buffer used to read the file")
+  public @Nullable Integer getReadBufferSize() {
+    return readBufferSize;
+  }
+
+  @SuppressWarnings("unused")
+  public void setReadBufferSize(@Nullable Integer readBufferSize) {
+    this.readBufferSize = readBufferSize;
+  }
+
   @Override
   public boolean supports(Database database) {
     checkNotNull(database);
@@ -60,6 +168,272 @@ public class MarkitectLoadUpdateDataChange extends LoadUpdateDataChange {
     return getColumns().stream().anyMatch(column -> column.getType() == null);
   }
 
+  @Override
+  public ValidationErrors validate(Database database) {
+    checkNotNull(database);
+    var errors = super.validate(database);
+    if (batchSize != null && batchSize <= 0) {
+      errors.addError("batchSize must be greater than 0");
+    }
+    if (rowsPerStatement != null && rowsPerStatement <= 0) {
+      errors.addError("rowsPerStatement must be greater than 0");
+    }
+    if (readBufferSize != null && readBufferSize <= 0) {
+      errors.addError("readBufferSize must be greater than 0");
+    }
+    if (strategy != null
+        && !STRATEGY_ROW.equalsIgnoreCase(strategy)
+        && !STRATEGY_STAGING.equalsIgnoreCase(strategy)) {
+      errors.addError(
+          "strategy must be one of '" + STRATEGY_ROW + "' or '" + STRATEGY_STAGING + "'");
+    }
+    return errors;
+  }
+
+  @Override
+  public SqlStatement[] generateStatements(Database database) {
+    checkNotNull(database);
+    if (STRATEGY_STAGING.equalsIgnoreCase(strategy)) {
+      return generateStagingStatements(database);
+    }
+    if (isTrue(streaming)) {
+      var statement = createStreamingStatement(database);
+      if (statement != null) {
+        return new SqlStatement[] {statement};
+      }
+      Scope.getCurrentScope()
+          .getLog(getClass())
+          .info("Cannot stream " + getFile() + ", loading it with a statement per row");
+    }
+    @Var List<SqlStatement> statements = Arrays.asList(super.generateStatements(database));
+    if (rowsPerStatement != null && rowsPerStatement > 1 && !isTrue(getOnlyUpdate())) {
+      var statement = createStatement(getCatalogName(), getSchemaName(), getTableName());
+      if (getGenerator(database, statement) instanceof MultiRowInsertOrUpdateGenerator generator) {
+        statements =
+            transformRuns(
+                statements, run -> toMultiRowStatements(database, generator, statement, run));
+      }
+    }
+    // A batch has no SQL of its own, so update-sql keeps the statement per row
+    if (batchSize != null && Databases.supportsPreparedQueries(database)) {
+      statements = transformRuns(statements, run -> toBatchStatements(database, run));
+    }
+    return statements.toArray(SqlStatement[]::new);
+  }
+
+  private SqlStatement[] generateStagingStatements(Database database) {
+    String stagingTable =
+        Optional.ofNullable(stagingTableName).orElseGet(() -> getTableName() + "_staging");
+    var columns = getStagingColumns();
+    var loadDataChange = new MarkitectLoadDataChange();
+    loadDataChange.setChangeSet(getChangeSet());
+    loadDataChange.setCatalogName(getCatalogName());
+    loadDataChange.setSchemaName(getSchemaName());
+    loadDataChange.setTableName(stagingTable);
+    loadDataChange.setFile(getFile());
+    loadDataChange.setRelativeToChangelogFile(isRelativeToChangelogFile());
+    loadDataChange.setEncoding(getEncoding());
+    loadDataChange.setSeparator(getSeparator());
+    loadDataChange.setQuotchar(getQuotchar());
+    loadDataChange.setCommentLineStartsWith(getCommentLineStartsWith());
+    loadDataChange.setUsePreparedStatements(getUsePreparedStatements());
+    loadDataChange.setStreaming(streaming);
+    loadDataChange.setBatchSize(batchSize);
+    loadDataChange.setReadBufferSize(readBufferSize);
+    getColumns().forEach(loadDataChange::addColumn);
+    var statement = createStatement(getCatalogName(), getSchemaName(), getTableName());
+    columns.stream()
+        .filter(column -> Boolean.FALSE.equals(column.getAllowUpdate()))
+        .forEach(column -> statement.setAllowColumnUpdate(column.getName(), false));
+    var generator = getGenerator(database, statement);
+    var mergeSql = generator.prepareMergeFromSql(database, statement, stagingTable, columns);
+    return Stream.of(
+            Stream.of(
+                new CreateStagingTableStatement(
+                    getCatalogName(),
+                    getSchemaName(),
+                    getTableName(),
+                    stagingTable,
+                    columns.stream().map(ColumnConfig::getName).toList())),
+            Arrays.stream(loadDataChange.generateStatements(database)),
+            Stream.of(
+                new CheckStagingKeysStatement(
+                    database,
+                    getCatalogName(),
+                    getSchemaName(),
+                    stagingTable,
+                    List.copyOf(generator.getPrimaryKeyColumnNames(statement))),
+                new RawSqlStatement(mergeSql.toSql()),
+                new DropTableStatement(getCatalogName(), getSchemaName(), stagingTable, false)))
+        .flatMap(Function.identity())
+        .toArray(SqlStatement[]::new);
+  }
+
+  private @Nullable StreamingLoadDataStatement createStreamingStatement(Database database) {
+    // A streaming load has no SQL to print, so update-sql gets a statement per row
+    if (!Databases.supportsPreparedQueries(database)) {
+      return null;
+    }
+    CsvReaderSupplier csvReaderSupplier =
+        () ->
+            LoadDataFiles.openCsvReader(
+                this,
+                Optional.ofNullable(readBufferSize).orElse(LoadDataFiles.DEFAULT_READ_BUFFER_SIZE));
+    // The values are checked while streaming, which saves reading the whole file twice
+    var columns = LoadDataColumns.findHeaderBulkLoadColumns(getColumns(), csvReaderSupplier);
+    if (columns == null) {
+      return null;
+    }
+    var statement = createStatement(getCatalogName(), getSchemaName(), getTableName());
+    getColumns().stream()
+        .filter(column -> Boolean.FALSE.equals(column.getAllowUpdate()))
+        .forEach(column -> statement.setAllowColumnUpdate(column.getName(), false));
+    var preparedSql =
+        getGenerator(database, statement)
+            .prepareSql(database, statement, LoadDataFiles.toTemplateColumns(columns));
+    return new StreamingLoadDataStatement(
+        database,
+        getTableName(),
+        preparedSql,
+        columns,
+        csvReaderSupplier,
+        getCommentLineStartsWith(),
+        Optional.ofNullable(batchSize).orElse(LoadDataFiles.DEFAULT_BATCH_SIZE));
+  }
+
+  private List<LoadDataColumnConfig> getStagingColumns() {
+    String[] headers;
+    try (var reader = getCSVReader()) {
+      headers = reader.readNext();
+    } catch (IOException | LiquibaseException e) {
+      throw new UnexpectedLiquibaseException(e);
+    }
+    if (headers == null) {
+      throw new UnexpectedLiquibaseException("Data file " + getFile() + " was empty");
+    }
+    var columns = new ArrayList<LoadDataColumnConfig>();
+    for (int i = 0; i < headers.length; i++) {
+      String header = headers[i].trim();
+      var columnConfig = LoadDataColumns.findColumnConfig(getColumns(), i, header);
+      if (columnConfig.map(column -> "skip".equalsIgnoreCase(column.getType())).orElse(false)) {
+        continue;
+      }
+      var column = new LoadDataColumnConfig();
+      column.setName(columnConfig.map(ColumnConfig::getName).orElse(header));
+      column.setAllowUpdate(columnConfig.map(LoadDataColumnConfig::getAllowUpdate).orElse(null));
+      columns.add(column);
+    }
+    return columns;
+  }
+
+  private static List<SqlStatement> transformRuns(
+      List<SqlStatement> statements,
+      Function<List<InsertOrUpdateExecutablePreparedStatement>, List<SqlStatement>> transformer) {
+    var transformedStatements = new ArrayList<SqlStatement>();
+    var run = new ArrayList<InsertOrUpdateExecutablePreparedStatement>();
+    for (var statement : statements) {
+      if (statement instanceof InsertOrUpdateExecutablePreparedStatement preparedStatement) {
+        if (!run.isEmpty()
+            && !run.get(0)
+                .getPreparedSql()
+                .toSql()
+                .equals(preparedStatement.getPreparedSql().toSql())) {
+          transformedStatements.addAll(transformer.apply(List.copyOf(run)));
+          run.clear();
+        }
+        run.add(preparedStatement);
+      } else {
+        if (!run.isEmpty()) {
+          transformedStatements.addAll(transformer.apply(List.copyOf(run)));
+          run.clear();
+        }
+        transformedStatements.add(statement);
+      }
+    }
+    if (!run.isEmpty()) {
+      transformedStatements.addAll(transformer.apply(List.copyOf(run)));
+    }
+    return transformedStatements;
+  }
+
+  private List<SqlStatement> toMultiRowStatements(
+      Database database,
+      MultiRowInsertOrUpdateGenerator generator,
+      InsertOrUpdateStatement statement,
+      List<InsertOrUpdateExecutablePreparedStatement> run) {
+    var rowSql =
+        generator.prepareMultiRowSql(database, statement, List.of(run.get(0).getRowColumns()));
+    var primaryKeyColumnNames = generator.getPrimaryKeyColumnNames(statement);
+    var multiRowStatements = new ArrayList<SqlStatement>();
+    for (var rowStatements :
+        BindParameterChunker.chunk(database, rowSql, checkNotNull(rowsPerStatement), run)) {
+      var chunk = new ArrayList<InsertOrUpdateExecutablePreparedStatement>();
+      var chunkKeys = new HashSet<List<@Nullable Object>>();
+      for (var rowStatement : rowStatements) {
+        List<@Nullable Object> key =
+            rowStatement.getRowColumns().stream()
+                .filter(column -> primaryKeyColumnNames.contains(column.getName()))
+                .map(ColumnConfig::getValueObject)
+                .toList();
+        // A single upsert statement must not touch the same row twice
+        if (!chunkKeys.add(key)) {
+          multiRowStatements.add(toMultiRowStatement(database, generator, statement, chunk));
+          chunk.clear();
+          chunkKeys.clear();
+          chunkKeys.add(key);
+        }
+        chunk.add(rowStatement);
+      }
+      multiRowStatements.add(toMultiRowStatement(database, generator, statement, chunk));
+    }
+    return multiRowStatements;
+  }
+
+  private SqlStatement toMultiRowStatement(
+      Database database,
+      MultiRowInsertOrUpdateGenerator generator,
+      InsertOrUpdateStatement statement,
+      List<InsertOrUpdateExecutablePreparedStatement> chunk) {
+    if (chunk.size() == 1) {
+      return chunk.get(0);
+    }
+    var preparedSql =
+        generator.prepareMultiRowSql(
+            database,
+            statement,
+            chunk.stream().map(InsertOrUpdateExecutablePreparedStatement::getRowColumns).toList());
+    return new InsertOrUpdateExecutablePreparedStatement(
+        database,
+        getCatalogName(),
+        getSchemaName(),
+        getTableName(),
+        chunk.stream()
+            .map(InsertOrUpdateExecutablePreparedStatement::getRowColumns)
+            .flatMap(Collection::stream)
+            .toList(),
+        getChangeSet(),
+        Scope.getCurrentScope().getResourceAccessor(),
+        preparedSql);
+  }
+
+  private List<SqlStatement> toBatchStatements(
+      Database database, List<InsertOrUpdateExecutablePreparedStatement> run) {
+    if (run.size() == 1) {
+      return List.of(run.get(0));
+    }
+    return List.of(
+        new BatchInsertOrUpdateExecutablePreparedStatement(
+            database,
+            getCatalogName(),
+            getSchemaName(),
+            getTableName(),
+            getChangeSet(),
+            Scope.getCurrentScope().getResourceAccessor(),
+            run.get(0).getPreparedSql(),
+            run.stream().map(statement -> statement.getPreparedSql().getBindColumns()).toList(),
+            checkNotNull(batchSize)));
+  }
+
   @Override
   protected boolean hasPreparedStatementsImplemented() {
     return true;
@@ -82,12 +456,7 @@ public class MarkitectLoadUpdateDataChange extends LoadUpdateDataChange {
       ChangeSet changeSet,
       ResourceAccessor resourceAccessor) {
     var statement = createStatement(catalogName, schemaName, tableName);
-    var generator =
-        SqlGeneratorFactory.getInstance().getGenerators(statement, database).stream()
-            .filter(MarkitectInsertOrUpdateGenerator.class::isInstance)
-            .map(MarkitectInsertOrUpdateGenerator.class::cast)
-            .findFirst()
-            .orElseThrow();
+    var generator = getGenerator(database, statement);
     var preparedSql = generator.prepareSql(database, statement, columns);
     return new InsertOrUpdateExecutablePreparedStatement(
         database,
@@ -99,4 +468,13 @@ public class MarkitectLoadUpdateDataChange extends LoadUpdateDataChange {
         resourceAccessor,
         preparedSql);
   }
+
+  private static MarkitectInsertOrUpdateGenerator getGenerator(
+      Database database, InsertOrUpdateStatement statement) {
+    return SqlGeneratorFactory.getInstance().getGenerators(statement, database).stream()
+        .filter(MarkitectInsertOrUpdateGenerator.class::isInstance)
+        .map(MarkitectInsertOrUpdateGenerator.class::cast)
+        .findFirst()
+        .orElseThrow();
+  }
 }
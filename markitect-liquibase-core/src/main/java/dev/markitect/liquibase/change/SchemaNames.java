@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.change;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.errorprone.annotations.Var;
+import dev.markitect.liquibase.database.Databases;
+import java.util.ArrayList;
+import java.util.IllegalFormatException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import liquibase.database.Database;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.UnexpectedLiquibaseException;
+import liquibase.exception.ValidationErrors;
+import liquibase.snapshot.InvalidExampleException;
+import liquibase.structure.core.Schema;
+import org.jspecify.annotations.Nullable;
+
+final class SchemaNames {
+  static List<String> resolve(
+      @Nullable String schemaNames,
+      @Nullable String schemaNamePattern,
+      @Nullable Integer startIndex,
+      @Nullable Integer endIndex) {
+    var resolved = new LinkedHashSet<String>();
+    if (schemaNames != null) {
+      for (var schemaName : schemaNames.split(",")) {
+        if (!schemaName.isBlank()) {
+          resolved.add(schemaName.strip());
+        }
+      }
+    }
+    if (schemaNamePattern != null && startIndex != null && endIndex != null) {
+      for (long index = startIndex; index <= endIndex; index++) {
+        resolved.add(String.format(Locale.ROOT, schemaNamePattern, index));
+      }
+    }
+    return List.copyOf(resolved);
+  }
+
+  static void validate(
+      ValidationErrors errors,
+      @Nullable String schemaNamePattern,
+      @Nullable Integer startIndex,
+      @Nullable Integer endIndex) {
+    checkNotNull(errors);
+    if (schemaNamePattern == null) {
+      if (startIndex != null || endIndex != null) {
+        errors.addError("startIndex and endIndex require a schemaNamePattern");
+      }
+      return;
+    }
+    if (startIndex == null || endIndex == null) {
+      errors.addError("schemaNamePattern requires a startIndex and an endIndex");
+      return;
+    }
+    if (startIndex > endIndex) {
+      errors.addError("startIndex must be less than or equal to endIndex");
+    }
+    try {
+      String.format(Locale.ROOT, schemaNamePattern, startIndex);
+    } catch (IllegalFormatException e) {
+      errors.addError("schemaNamePattern is not a valid format for an integer index");
+    }
+  }
+
+  // One listing decides every schema instead of a query per name
+  static List<String> filter(
+      Database database, @Nullable String catalogName, List<String> names, boolean exists) {
+    checkNotNull(database);
+    checkNotNull(names);
+    try {
+      var listed = Databases.listSchemas(database, catalogName);
+      var filtered = new ArrayList<String>(names.size());
+      for (var name : names) {
+        @Var Boolean listedName =
+            Databases.containsName(listed, database.correctObjectName(name, Schema.class));
+        if (listedName == null) {
+          listedName = Databases.schemaExists(database, catalogName, name);
+        }
+        if (listedName == exists) {
+          filtered.add(name);
+        }
+      }
+      return filtered;
+    } catch (DatabaseException | InvalidExampleException e) {
+      throw new UnexpectedLiquibaseException(e);
+    }
+  }
+
+  private SchemaNames() {}
+}
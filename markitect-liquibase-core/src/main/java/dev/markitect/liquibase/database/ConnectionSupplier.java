@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import liquibase.Scope;
+import org.jspecify.annotations.Nullable;
+
+// Supplies additional connections to the database being updated, e.g. from a DataSource
+@FunctionalInterface
+public interface ConnectionSupplier {
+  String SCOPE_KEY = ConnectionSupplier.class.getName();
+
+  Connection getConnection() throws SQLException;
+
+  static @Nullable ConnectionSupplier current() {
+    return Scope.getCurrentScope().get(SCOPE_KEY, ConnectionSupplier.class);
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,15 +20,27 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import dev.markitect.liquibase.statement.CatalogExistsStatement;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import dev.markitect.liquibase.statement.ListCatalogsStatement;
+import dev.markitect.liquibase.statement.ListSchemasStatement;
 import dev.markitect.liquibase.statement.SchemaExistsStatement;
+import java.util.Set;
 import liquibase.Scope;
 import liquibase.database.Database;
+import liquibase.database.OfflineConnection;
 import liquibase.database.core.H2Database;
 import liquibase.database.core.HsqlDatabase;
+import liquibase.database.core.MSSQLDatabase;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.database.jvm.JdbcConnection;
 import liquibase.exception.DatabaseException;
 import liquibase.executor.ExecutorService;
+import liquibase.executor.jvm.JdbcExecutor;
 import liquibase.snapshot.InvalidExampleException;
 import liquibase.snapshot.SnapshotGeneratorFactory;
+import liquibase.sqlgenerator.SqlGeneratorFactory;
+import liquibase.statement.SqlStatement;
+import liquibase.structure.core.Catalog;
 import liquibase.structure.core.Schema;
 import org.jspecify.annotations.Nullable;
 
@@ -43,13 +55,31 @@ public final class Databases {
     if (database instanceof H2Database || database instanceof HsqlDatabase) {
       return false;
     }
+    var key = ExistenceCache.catalogKey(catalogName);
+    var cached = ExistenceCache.getIfPresent(database, key);
+    if (cached != null) {
+      return cached;
+    }
+    boolean exists = queryCatalogExists(database, catalogName);
+    ExistenceCache.put(database, key, exists);
+    return exists;
+  }
+
+  private static boolean queryCatalogExists(Database database, @Nullable String catalogName)
+      throws DatabaseException {
+    if (ExistenceCache.isEnabled() && supportsCatalogQueries(database)) {
+      // One listing answers every later lookup on this connection
+      var listed =
+          containsName(
+              listCatalogs(database), database.correctObjectName(catalogName, Catalog.class));
+      if (listed != null) {
+        return listed;
+      }
+    }
     var statement = new CatalogExistsStatement();
     statement.setCatalogName(catalogName);
-    return isTrue(
-        Scope.getCurrentScope()
-            .getSingleton(ExecutorService.class)
-            .getExecutor("jdbc", database)
-            .queryForObject(statement, Boolean.class));
+    statement.setParameterized(supportsPreparedQueries(database));
+    return queryForBoolean(database, statement);
   }
 
   public static boolean schemaExists(
@@ -59,16 +89,104 @@ public final class Databases {
     if (database.isDefaultSchema(catalogName, schemaName)) {
       return true;
     }
-    if (database.isDefaultCatalog(catalogName)) {
-      return SnapshotGeneratorFactory.getInstance()
-          .has(new Schema(catalogName, schemaName), database);
+    var key = ExistenceCache.schemaKey(catalogName, schemaName);
+    var cached = ExistenceCache.getIfPresent(database, key);
+    if (cached != null) {
+      return cached;
     }
+    boolean exists = querySchemaExists(database, catalogName, schemaName);
+    ExistenceCache.put(database, key, exists);
+    return exists;
+  }
+
+  private static boolean querySchemaExists(
+      Database database, @Nullable String catalogName, @Nullable String schemaName)
+      throws DatabaseException, InvalidExampleException {
     if (!catalogExists(database, catalogName)) {
       return false;
     }
+    boolean supportsSchemaQueries = supportsSchemaQueries(database);
+    if (ExistenceCache.isEnabled() && supportsSchemaQueries) {
+      var listed =
+          containsName(
+              listSchemas(database, catalogName),
+              database.correctObjectName(schemaName, Schema.class));
+      if (listed != null) {
+        return listed;
+      }
+    }
+    if (!supportsSchemaQueries && database.isDefaultCatalog(catalogName)) {
+      // Offline connections and other dialects only have the snapshot machinery
+      return SnapshotGeneratorFactory.getInstance()
+          .has(new Schema(catalogName, schemaName), database);
+    }
     var statement = new SchemaExistsStatement();
     statement.setCatalogName(catalogName);
     statement.setSchemaName(schemaName);
+    statement.setParameterized(supportsPreparedQueries(database));
+    return queryForBoolean(database, statement);
+  }
+
+  public static Set<String> listCatalogs(Database database) throws DatabaseException {
+    checkNotNull(database);
+    if (database instanceof H2Database || database instanceof HsqlDatabase) {
+      var defaultCatalogName = database.getDefaultCatalogName();
+      return defaultCatalogName != null ? Set.of(defaultCatalogName) : Set.of();
+    }
+    var key = ExistenceCache.catalogsKey();
+    var cached = ExistenceCache.getNamesIfPresent(database, key);
+    if (cached != null) {
+      return cached;
+    }
+    var names = queryForNames(database, new ListCatalogsStatement());
+    ExistenceCache.putNames(database, key, names);
+    return names;
+  }
+
+  public static Set<String> listSchemas(Database database, @Nullable String catalogName)
+      throws DatabaseException {
+    checkNotNull(database);
+    var key = ExistenceCache.schemasKey(catalogName);
+    var cached = ExistenceCache.getNamesIfPresent(database, key);
+    if (cached != null) {
+      return cached;
+    }
+    var statement = new ListSchemasStatement();
+    statement.setCatalogName(catalogName);
+    var names = queryForNames(database, statement);
+    ExistenceCache.putNames(database, key, names);
+    return names;
+  }
+
+  private static boolean supportsCatalogQueries(Database database) {
+    return !(database.getConnection() instanceof OfflineConnection)
+        && (database instanceof MSSQLDatabase || database instanceof PostgresDatabase);
+  }
+
+  private static boolean supportsSchemaQueries(Database database) {
+    return !(database.getConnection() instanceof OfflineConnection)
+        && (database instanceof H2Database
+            || database instanceof HsqlDatabase
+            || database instanceof MSSQLDatabase
+            || database instanceof PostgresDatabase);
+  }
+
+  // Logging and mocked executors only understand plain SQL
+  public static boolean supportsPreparedQueries(Database database) {
+    checkNotNull(database);
+    var executor =
+        Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", database);
+    return database.getConnection() instanceof JdbcConnection && executor instanceof JdbcExecutor;
+  }
+
+  private static boolean queryForBoolean(Database database, SqlStatement statement)
+      throws DatabaseException {
+    if (database.getConnection() instanceof JdbcConnection connection) {
+      var sqls = SqlGeneratorFactory.getInstance().generateSql(statement, database);
+      if (sqls.length == 1 && sqls[0] instanceof PreparedSql preparedSql) {
+        return PreparedStatementCache.queryForBoolean(connection, preparedSql);
+      }
+    }
     return isTrue(
         Scope.getCurrentScope()
             .getSingleton(ExecutorService.class)
@@ -76,5 +194,31 @@ public final class Databases {
             .queryForObject(statement, Boolean.class));
   }
 
+  private static Set<String> queryForNames(Database database, SqlStatement statement)
+      throws DatabaseException {
+    return Set.copyOf(
+        Scope.getCurrentScope()
+            .getSingleton(ExecutorService.class)
+            .getExecutor("jdbc", database)
+            .queryForList(statement, String.class));
+  }
+
+  // Names that differ only in case depend on the collation, so leave those to the database
+  public static @Nullable Boolean containsName(Set<String> names, @Nullable String name) {
+    checkNotNull(names);
+    if (name == null) {
+      return null;
+    }
+    if (names.contains(name)) {
+      return true;
+    }
+    for (var existingName : names) {
+      if (existingName.equalsIgnoreCase(name)) {
+        return null;
+      }
+    }
+    return false;
+  }
+
   private Databases() {}
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.errorprone.annotations.Var;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import liquibase.database.DatabaseConnection;
+import liquibase.database.ObjectQuotingStrategy;
+import liquibase.structure.DatabaseObject;
+import org.jspecify.annotations.Nullable;
+
+public final class EscapedObjectNameCache {
+  private static final int MAXIMUM_SIZE_PER_TYPE = 4096;
+  private static final Cache<MarkitectDatabase, Names> CACHES =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  static String get(
+      MarkitectDatabase database,
+      String objectName,
+      Class<? extends DatabaseObject> objectType,
+      Supplier<String> loader) {
+    checkNotNull(database);
+    checkNotNull(objectName);
+    checkNotNull(objectType);
+    checkNotNull(loader);
+    boolean preserveSchemaCase = NamingPolicy.current().isPreserveSchemaCase();
+    @Var var names = CACHES.getIfPresent(database);
+    if (names == null || !names.matches(database, preserveSchemaCase)) {
+      // Settings changed since the names were escaped, so start over
+      names = new Names(database, preserveSchemaCase);
+      CACHES.put(database, names);
+    }
+    var escapedObjectNames =
+        names.escapedObjectNames.computeIfAbsent(
+            objectType,
+            ignored -> CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE_PER_TYPE).build());
+    @Var var escapedObjectName = escapedObjectNames.getIfPresent(objectName);
+    if (escapedObjectName == null) {
+      escapedObjectName = loader.get();
+      escapedObjectNames.put(objectName, escapedObjectName);
+    }
+    return escapedObjectName;
+  }
+
+  private EscapedObjectNameCache() {}
+
+  // Compared field by field, so a hit allocates nothing
+  private static final class Names {
+    private final ObjectQuotingStrategy objectQuotingStrategy;
+    private final @Nullable Boolean unquotedObjectsAreUppercased;
+    private final @Nullable DatabaseConnection connection;
+    private final boolean preserveSchemaCase;
+    private final Map<Class<?>, Cache<String, String>> escapedObjectNames =
+        new ConcurrentHashMap<>();
+
+    private Names(MarkitectDatabase database, boolean preserveSchemaCase) {
+      this.objectQuotingStrategy = database.getObjectQuotingStrategy();
+      this.unquotedObjectsAreUppercased = database.getUnquotedObjectsAreUppercased();
+      this.connection = database.getConnection();
+      this.preserveSchemaCase = preserveSchemaCase;
+    }
+
+    private boolean matches(MarkitectDatabase database, boolean preserveSchemaCase) {
+      return objectQuotingStrategy == database.getObjectQuotingStrategy()
+          && Objects.equals(
+              unquotedObjectsAreUppercased, database.getUnquotedObjectsAreUppercased())
+          && connection == database.getConnection()
+          && this.preserveSchemaCase == preserveSchemaCase;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import liquibase.Scope;
+import liquibase.database.Database;
+import liquibase.database.DatabaseConnection;
+import liquibase.structure.core.Catalog;
+import liquibase.structure.core.Schema;
+import org.jspecify.annotations.Nullable;
+
+public final class ExistenceCache {
+  // Entries live as long as the connection, so whoever enables the cache for an update run must
+  // invalidate it when the run ends, or later runs would see existence from before their changes
+  public static final String ENABLED_SCOPE_KEY = ExistenceCache.class.getName() + ".enabled";
+
+  private static final int MAXIMUM_SIZE_PER_CONNECTION = 4096;
+  private static final Cache<DatabaseConnection, Entries> CACHES =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  static List<?> catalogKey(@Nullable String catalogName) {
+    return Arrays.asList(Catalog.class, catalogName);
+  }
+
+  static List<?> schemaKey(@Nullable String catalogName, @Nullable String schemaName) {
+    return Arrays.asList(Schema.class, catalogName, schemaName);
+  }
+
+  static List<?> catalogsKey() {
+    return List.of(Catalog.class);
+  }
+
+  static List<?> schemasKey(@Nullable String catalogName) {
+    return Arrays.asList(Schema.class, catalogName);
+  }
+
+  static @Nullable Boolean getIfPresent(Database database, List<?> key) {
+    checkNotNull(database);
+    checkNotNull(key);
+    var entries = getEntries(database, false);
+    return entries != null ? entries.exists.getIfPresent(key) : null;
+  }
+
+  static void put(Database database, List<?> key, boolean exists) {
+    checkNotNull(database);
+    checkNotNull(key);
+    var entries = getEntries(database, true);
+    if (entries != null) {
+      entries.exists.put(key, exists);
+    }
+  }
+
+  static @Nullable Set<String> getNamesIfPresent(Database database, List<?> key) {
+    checkNotNull(database);
+    checkNotNull(key);
+    var entries = getEntries(database, false);
+    return entries != null ? entries.names.getIfPresent(key) : null;
+  }
+
+  static void putNames(Database database, List<?> key, Set<String> names) {
+    checkNotNull(database);
+    checkNotNull(key);
+    checkNotNull(names);
+    var entries = getEntries(database, true);
+    if (entries != null) {
+      entries.names.put(key, names);
+    }
+  }
+
+  public static void invalidate(Database database) {
+    checkNotNull(database);
+    var connection = database.getConnection();
+    if (connection != null) {
+      CACHES.invalidate(connection);
+    }
+  }
+
+  public static boolean isEnabled() {
+    return isTrue(Scope.getCurrentScope().get(ENABLED_SCOPE_KEY, Boolean.class));
+  }
+
+  private static @Nullable Entries getEntries(Database database, boolean create) {
+    var connection = database.getConnection();
+    if (connection == null || !isEnabled()) {
+      return null;
+    }
+    if (!create) {
+      return CACHES.getIfPresent(connection);
+    }
+    return CACHES.asMap().computeIfAbsent(connection, ignored -> new Entries());
+  }
+
+  private ExistenceCache() {}
+
+  private static final class Entries {
+    private final Cache<List<?>, Boolean> exists =
+        CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE_PER_CONNECTION).build();
+    private final Cache<List<?>, Set<String>> names =
+        CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE_PER_CONNECTION).build();
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,11 @@ package dev.markitect.liquibase.database;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static dev.markitect.liquibase.structure.Structures.isCatalogOrSchemaType;
-import static dev.markitect.liquibase.util.Strings.isIllegalIdentifier;
+import static dev.markitect.liquibase.util.Strings.scanIdentifier;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import dev.markitect.liquibase.util.IdentifierCase;
 import java.util.Locale;
-import liquibase.GlobalConfiguration;
 import liquibase.database.Database;
 import liquibase.database.ObjectQuotingStrategy;
 import liquibase.structure.DatabaseObject;
@@ -45,7 +44,7 @@ public interface MarkitectDatabase extends Database {
         || (supportsPreservingIdentifierCase(objectType)
             && (getObjectQuotingStrategy() == ObjectQuotingStrategy.QUOTE_ALL_OBJECTS
                 || (isCatalogOrSchemaType(objectType)
-                    && isTrue(GlobalConfiguration.PRESERVE_SCHEMA_CASE.getCurrentValue()))))) {
+                    && NamingPolicy.current().isPreserveSchemaCase())))) {
       return objectName;
     }
     if (isTrue(unquotedObjectsAreUppercased)) {
@@ -79,28 +78,32 @@ public interface MarkitectDatabase extends Database {
     if (objectName == null) {
       return null;
     }
-    return mustQuoteObjectName(objectName, objectType)
-        ? quoteObject(correctObjectName(objectName, objectType), objectType)
-        : objectName;
+    return EscapedObjectNameCache.get(
+        this,
+        objectName,
+        objectType,
+        () ->
+            mustQuoteObjectName(objectName, objectType)
+                ? checkNotNull(quoteObject(correctObjectName(objectName, objectType), objectType))
+                : objectName);
   }
 
-  @SuppressFBWarnings("IMPROPER_UNICODE")
   default boolean mustQuoteObjectName(
       String objectName, Class<? extends DatabaseObject> objectType) {
     checkNotNull(objectName);
     checkNotNull(objectType);
+    IdentifierCase identifierCase;
     Boolean unquotedObjectsAreUppercased;
     return getObjectQuotingStrategy() == ObjectQuotingStrategy.QUOTE_ALL_OBJECTS
-        || isIllegalIdentifier(objectName)
+        || (identifierCase = scanIdentifier(objectName)) == IdentifierCase.ILLEGAL
         || isReservedWord(objectName)
         || ((unquotedObjectsAreUppercased = getUnquotedObjectsAreUppercased()) != null
             && supportsPreservingIdentifierCase(objectType)
             && isCatalogOrSchemaType(objectType)
-            && isTrue(GlobalConfiguration.PRESERVE_SCHEMA_CASE.getCurrentValue())
-            && !objectName.equals(
-                isTrue(unquotedObjectsAreUppercased)
-                    ? objectName.toUpperCase(Locale.US)
-                    : objectName.toLowerCase(Locale.US)));
+            && NamingPolicy.current().isPreserveSchemaCase()
+            && !(isTrue(unquotedObjectsAreUppercased)
+                ? identifierCase.isUpperCase()
+                : identifierCase.isLowerCase()));
   }
 
   @Nullable String quoteObject(
@@ -109,7 +112,7 @@ public interface MarkitectDatabase extends Database {
   @Nullable Boolean getUnquotedObjectsAreUppercased();
 
   default @Nullable String toCatalogNameToUse(@Nullable String catalogName) {
-    if ((isTrue(GlobalConfiguration.INCLUDE_CATALOG_IN_SPECIFICATION.getCurrentValue())
+    if ((NamingPolicy.current().isIncludeCatalogInSpecification()
             && getOutputDefaultCatalog())
         || !isDefaultCatalog(catalogName)) {
       if (catalogName != null) {
@@ -122,7 +125,7 @@ public interface MarkitectDatabase extends Database {
 
   default @Nullable String toSchemaNameToUse(
       @Nullable String catalogName, @Nullable String schemaName) {
-    if ((isTrue(GlobalConfiguration.INCLUDE_CATALOG_IN_SPECIFICATION.getCurrentValue())
+    if ((NamingPolicy.current().isIncludeCatalogInSpecification()
             && getOutputDefaultCatalog()
             && !supportsOmittedInnerSchemaName())
         || getOutputDefaultSchema()
@@ -137,6 +140,10 @@ public interface MarkitectDatabase extends Database {
     return null;
   }
 
+  default int getMaxBindParameters() {
+    return Short.MAX_VALUE;
+  }
+
   default boolean supportsOmittedInnerSchemaName() {
     return false;
   }
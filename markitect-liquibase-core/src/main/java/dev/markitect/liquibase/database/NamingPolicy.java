@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+
+public final class NamingPolicy {
+  private static final Cache<Scope, NamingPolicy> POLICIES =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  private final boolean preserveSchemaCase;
+  private final boolean includeCatalogInSpecification;
+
+  private NamingPolicy(boolean preserveSchemaCase, boolean includeCatalogInSpecification) {
+    this.preserveSchemaCase = preserveSchemaCase;
+    this.includeCatalogInSpecification = includeCatalogInSpecification;
+  }
+
+  // Configuration lookups walk every value provider, so they run once per scope
+  public static NamingPolicy current() {
+    return POLICIES.asMap().computeIfAbsent(Scope.getCurrentScope(), ignored -> load());
+  }
+
+  private static NamingPolicy load() {
+    return new NamingPolicy(
+        isTrue(GlobalConfiguration.PRESERVE_SCHEMA_CASE.getCurrentValue()),
+        isTrue(GlobalConfiguration.INCLUDE_CATALOG_IN_SPECIFICATION.getCurrentValue()));
+  }
+
+  public boolean isPreserveSchemaCase() {
+    return preserveSchemaCase;
+  }
+
+  public boolean isIncludeCatalogInSpecification() {
+    return includeCatalogInSpecification;
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.errorprone.annotations.Var;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import liquibase.Scope;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.DatabaseException;
+
+// Queries run on the underlying connection, so they skip the jdbc executor and its SqlListeners
+public final class PreparedStatementCache {
+  private static final int MAXIMUM_SIZE_PER_CONNECTION = 64;
+  private static final Cache<Connection, Cache<String, PreparedStatement>> CACHES =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  static boolean queryForBoolean(JdbcConnection connection, PreparedSql preparedSql)
+      throws DatabaseException {
+    checkNotNull(connection);
+    checkNotNull(preparedSql);
+    var underlyingConnection = checkNotNull(connection.getUnderlyingConnection());
+    String sql = preparedSql.toSql();
+    try {
+      var statement = getStatement(underlyingConnection, sql);
+      // Statements are shared by every caller on the same connection
+      synchronized (statement) {
+        @Var int parameterIndex = 0;
+        for (var bindColumn : preparedSql.getBindColumns()) {
+          statement.setString(++parameterIndex, bindColumn.getValue());
+        }
+        try (var resultSet = statement.executeQuery()) {
+          return resultSet.next() && resultSet.getBoolean(1);
+        }
+      }
+    } catch (SQLException e) {
+      throw new DatabaseException("Error executing SQL " + sql + ": " + e.getMessage(), e);
+    }
+  }
+
+  // Statements stay open as long as the connection, which a pool may keep for the application's
+  // lifetime, so whoever runs an update must invalidate the cache when the run ends
+  public static void invalidate(Database database) {
+    checkNotNull(database);
+    if (database.getConnection() instanceof JdbcConnection connection
+        && connection.getUnderlyingConnection() != null) {
+      var statements = CACHES.asMap().remove(connection.getUnderlyingConnection());
+      if (statements != null) {
+        statements.invalidateAll();
+      }
+    }
+  }
+
+  private static PreparedStatement getStatement(Connection connection, String sql)
+      throws SQLException {
+    var statements =
+        CACHES
+            .asMap()
+            .computeIfAbsent(
+                connection,
+                ignored ->
+                    CacheBuilder.newBuilder()
+                        .maximumSize(MAXIMUM_SIZE_PER_CONNECTION)
+                        .removalListener(PreparedStatementCache::close)
+                        .build());
+    @Var PreparedStatement statement = statements.getIfPresent(sql);
+    if (statement == null || statement.isClosed()) {
+      statement = connection.prepareStatement(sql);
+      statements.put(sql, statement);
+    }
+    return statement;
+  }
+
+  private static void close(RemovalNotification<String, PreparedStatement> notification) {
+    var statement = notification.getValue();
+    if (statement == null) {
+      return;
+    }
+    try {
+      statement.close();
+    } catch (SQLException e) {
+      Scope.getCurrentScope()
+          .getLog(PreparedStatementCache.class)
+          .fine("Unable to close cached statement: " + e.getMessage(), e);
+    }
+  }
+
+  private PreparedStatementCache() {}
+}
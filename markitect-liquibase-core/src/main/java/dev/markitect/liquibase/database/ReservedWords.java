@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.errorprone.annotations.Var;
+import java.util.function.Predicate;
+
+public final class ReservedWords {
+  private static final int MAXIMUM_SIZE = 4096;
+
+  private final Predicate<String> isReservedWord;
+  private final Cache<String, Boolean> reservedWords =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+
+  public ReservedWords(Predicate<String> isReservedWord) {
+    this.isReservedWord = checkNotNull(isReservedWord);
+  }
+
+  // Answers come from the dialect itself, so a hit is the same as the inherited lookup
+  public boolean contains(String word) {
+    checkNotNull(word);
+    @Var var reserved = reservedWords.getIfPresent(word);
+    if (reserved == null) {
+      reserved = isReservedWord.test(word);
+      reservedWords.put(word, reserved);
+    }
+    return reserved;
+  }
+
+  public void invalidate() {
+    reservedWords.invalidateAll();
+  }
+}
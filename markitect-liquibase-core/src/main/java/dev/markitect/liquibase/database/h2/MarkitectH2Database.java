@@ -19,13 +19,17 @@ package dev.markitect.liquibase.database.h2;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import dev.markitect.liquibase.database.MarkitectDatabase;
+import dev.markitect.liquibase.database.ReservedWords;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Collection;
 import liquibase.database.core.H2Database;
 import liquibase.structure.DatabaseObject;
 import liquibase.structure.core.Catalog;
 import org.jspecify.annotations.Nullable;
 
 public class MarkitectH2Database extends H2Database implements MarkitectDatabase {
+  private final ReservedWords reservedWordTable = new ReservedWords(super::isReservedWord);
+
   @Override
   public int getPriority() {
     return super.getPriority() + 5;
@@ -60,6 +64,21 @@ public class MarkitectH2Database extends H2Database implements MarkitectDatabase
     return MarkitectDatabase.super.mustQuoteObjectName(objectName, objectType);
   }
 
+  @Override
+  public boolean isReservedWord(String string) {
+    return reservedWordTable.contains(string);
+  }
+
+  @Override
+  @SuppressWarnings("ConstantValue")
+  public void addReservedWords(Collection<String> words) {
+    super.addReservedWords(words);
+    // May be called by a Liquibase constructor, before the table exists
+    if (reservedWordTable != null) {
+      reservedWordTable.invalidate();
+    }
+  }
+
   @Override
   @SuppressWarnings("squid:S1185")
   public String quoteObject(
@@ -17,12 +17,16 @@
 package dev.markitect.liquibase.database.postgresql;
 
 import dev.markitect.liquibase.database.MarkitectDatabase;
+import dev.markitect.liquibase.database.ReservedWords;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Collection;
 import liquibase.database.core.PostgresDatabase;
 import liquibase.structure.DatabaseObject;
 import org.jspecify.annotations.Nullable;
 
 public class MarkitectPostgresDatabase extends PostgresDatabase implements MarkitectDatabase {
+  private final ReservedWords reservedWordTable = new ReservedWords(super::isReservedWord);
+
   @Override
   public int getPriority() {
     return super.getPriority() + 5;
@@ -57,6 +61,21 @@ public class MarkitectPostgresDatabase extends PostgresDatabase implements Marki
     return MarkitectDatabase.super.mustQuoteObjectName(objectName, objectType);
   }
 
+  @Override
+  public boolean isReservedWord(String string) {
+    return reservedWordTable.contains(string);
+  }
+
+  @Override
+  @SuppressWarnings("ConstantValue")
+  public void addReservedWords(Collection<String> words) {
+    super.addReservedWords(words);
+    // May be called by a Liquibase constructor, before the table exists
+    if (reservedWordTable != null) {
+      reservedWordTable.invalidate();
+    }
+  }
+
   @Override
   @SuppressWarnings("squid:S1185")
   public String quoteObject(
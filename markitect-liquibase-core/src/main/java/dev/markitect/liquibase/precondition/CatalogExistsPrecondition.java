@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,8 @@ package dev.markitect.liquibase.precondition;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static dev.markitect.liquibase.database.Databases.catalogExists;
 
+import com.google.errorprone.annotations.Var;
+import java.util.Arrays;
 import liquibase.changelog.ChangeSet;
 import liquibase.changelog.DatabaseChangeLog;
 import liquibase.changelog.visitor.ChangeExecListener;
@@ -65,7 +67,13 @@ public class CatalogExistsPrecondition extends AbstractPrecondition {
       throws PreconditionFailedException, PreconditionErrorException {
     checkNotNull(database);
     try {
-      if (!catalogExists(database, catalogName)) {
+      var key = Arrays.asList(getName(), catalogName);
+      @Var var exists = PreconditionMemo.getIfPresent(database, changeLog, key);
+      if (exists == null) {
+        exists = catalogExists(database, catalogName);
+        PreconditionMemo.put(database, changeLog, key, exists);
+      }
+      if (!exists) {
         throw new PreconditionFailedException(
             "Catalog " + catalogName + " does not exist", changeLog, this);
       }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,7 +17,9 @@
 package dev.markitect.liquibase.precondition;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
+import java.util.Arrays;
 import java.util.Objects;
 import liquibase.changelog.ChangeSet;
 import liquibase.changelog.DatabaseChangeLog;
@@ -66,9 +68,17 @@ public class ConnectionCatalogPrecondition extends AbstractPrecondition {
       throws PreconditionFailedException, PreconditionErrorException {
     checkNotNull(database);
     try {
+      // Only matches are reused, a mismatch is reported with the current connection catalog
+      var key = Arrays.asList(getName(), catalogName);
+      if (isTrue(PreconditionMemo.getIfPresent(database, changeLog, key))) {
+        return;
+      }
       String connectionCatalogName = database.getConnection().getCatalog();
-      if (!Objects.equals(
-          connectionCatalogName, database.correctObjectName(catalogName, Catalog.class))) {
+      boolean matches =
+          Objects.equals(
+              connectionCatalogName, database.correctObjectName(catalogName, Catalog.class));
+      PreconditionMemo.put(database, changeLog, key, matches);
+      if (!matches) {
         throw new PreconditionFailedException(
             "Connection catalog precondition failed: expected "
                 + catalogName
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.precondition;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.errorprone.annotations.Var;
+import java.util.List;
+import liquibase.Scope;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.database.Database;
+import org.jspecify.annotations.Nullable;
+
+public final class PreconditionMemo {
+  public static final String ENABLED_SCOPE_KEY = PreconditionMemo.class.getName() + ".enabled";
+
+  private static final int MAXIMUM_SIZE_PER_RUN = 4096;
+  // Every update run parses its own changelog, so results live as long as its root changelog
+  private static final Cache<DatabaseChangeLog, Results> RESULTS =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  static @Nullable Boolean getIfPresent(
+      Database database, @Nullable DatabaseChangeLog changeLog, List<?> key) {
+    checkNotNull(database);
+    checkNotNull(key);
+    if (changeLog == null || !isEnabled()) {
+      return null;
+    }
+    var results = RESULTS.getIfPresent(changeLog.getRootChangeLog());
+    return results != null && results.database == database
+        ? results.satisfied.getIfPresent(key)
+        : null;
+  }
+
+  static void put(
+      Database database, @Nullable DatabaseChangeLog changeLog, List<?> key, boolean satisfied) {
+    checkNotNull(database);
+    checkNotNull(key);
+    if (changeLog == null || !isEnabled()) {
+      return;
+    }
+    var rootChangeLog = changeLog.getRootChangeLog();
+    @Var var results = RESULTS.getIfPresent(rootChangeLog);
+    if (results == null || results.database != database) {
+      results = new Results(database);
+      RESULTS.put(rootChangeLog, results);
+    }
+    results.satisfied.put(key, satisfied);
+  }
+
+  public static void invalidate(Database database) {
+    checkNotNull(database);
+    RESULTS.asMap().values().removeIf(results -> results.database == database);
+  }
+
+  public static boolean isEnabled() {
+    return isTrue(Scope.getCurrentScope().get(ENABLED_SCOPE_KEY, Boolean.class));
+  }
+
+  private PreconditionMemo() {}
+
+  private static final class Results {
+    private final Database database;
+    private final Cache<List<?>, Boolean> satisfied =
+        CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE_PER_RUN).build();
+
+    private Results(Database database) {
+      this.database = database;
+    }
+  }
+}
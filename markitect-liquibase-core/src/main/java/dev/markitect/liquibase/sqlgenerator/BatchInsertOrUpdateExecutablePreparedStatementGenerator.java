@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dev.markitect.liquibase.statement.BatchInsertOrUpdateExecutablePreparedStatement;
+import liquibase.database.Database;
+import liquibase.exception.ValidationErrors;
+import liquibase.sql.Sql;
+import liquibase.sqlgenerator.SqlGeneratorChain;
+import liquibase.sqlgenerator.core.AbstractSqlGenerator;
+
+public class BatchInsertOrUpdateExecutablePreparedStatementGenerator
+    extends AbstractSqlGenerator<BatchInsertOrUpdateExecutablePreparedStatement> {
+  @Override
+  public ValidationErrors validate(
+      BatchInsertOrUpdateExecutablePreparedStatement statement,
+      Database database,
+      SqlGeneratorChain<BatchInsertOrUpdateExecutablePreparedStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    return new ValidationErrors();
+  }
+
+  @Override
+  public Sql[] generateSql(
+      BatchInsertOrUpdateExecutablePreparedStatement statement,
+      Database database,
+      SqlGeneratorChain<BatchInsertOrUpdateExecutablePreparedStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    return EMPTY_SQL;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,9 @@ package dev.markitect.liquibase.sqlgenerator;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import dev.markitect.liquibase.statement.CatalogExistsStatement;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.util.List;
+import liquibase.change.ColumnConfig;
 import liquibase.database.Database;
 import liquibase.database.core.MSSQLDatabase;
 import liquibase.database.core.PostgresDatabase;
@@ -59,13 +62,14 @@ public class CatalogExistsGenerator extends AbstractSqlGenerator<CatalogExistsSt
     checkNotNull(statement);
     checkNotNull(database);
     checkNotNull(sqlGeneratorChain);
+    String catalogName = database.correctObjectName(statement.getCatalogName(), Catalog.class);
+    boolean parameterized = statement.isParameterized();
     String sql;
     if (database instanceof MSSQLDatabase) {
       sql =
-          "SELECT CAST(CASE WHEN DB_ID(N'"
-              + database.escapeStringForDatabase(
-                  database.correctObjectName(statement.getCatalogName(), Catalog.class))
-              + "') IS NOT NULL THEN 1 ELSE 0 END AS "
+          "SELECT CAST(CASE WHEN DB_ID("
+              + (parameterized ? "?" : "N'" + database.escapeStringForDatabase(catalogName) + "'")
+              + ") IS NOT NULL THEN 1 ELSE 0 END AS "
               + database.escapeDataTypeName("bit")
               + ")";
     } else {
@@ -74,10 +78,15 @@ public class CatalogExistsGenerator extends AbstractSqlGenerator<CatalogExistsSt
               + database.escapeTableName(null, "pg_catalog", "pg_database")
               + " WHERE "
               + database.escapeObjectName("datname", Column.class)
-              + " = '"
-              + database.escapeStringForDatabase(
-                  database.correctObjectName(statement.getCatalogName(), Catalog.class))
-              + "')";
+              + " = "
+              + (parameterized ? "?" : "'" + database.escapeStringForDatabase(catalogName) + "'")
+              + ")";
+    }
+    if (parameterized) {
+      return new Sql[] {
+        new PreparedSql(
+            sql, List.of(new ColumnConfig().setName("catalogName").setValue(catalogName)))
+      };
     }
     return new Sql[] {new UnparsedSql(sql)};
   }
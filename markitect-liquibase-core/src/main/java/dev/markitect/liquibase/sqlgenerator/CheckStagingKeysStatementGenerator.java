@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dev.markitect.liquibase.statement.CheckStagingKeysStatement;
+import liquibase.database.Database;
+import liquibase.exception.ValidationErrors;
+import liquibase.sql.Sql;
+import liquibase.sqlgenerator.SqlGeneratorChain;
+import liquibase.sqlgenerator.core.AbstractSqlGenerator;
+
+public class CheckStagingKeysStatementGenerator
+    extends AbstractSqlGenerator<CheckStagingKeysStatement> {
+  @Override
+  public ValidationErrors validate(
+      CheckStagingKeysStatement statement,
+      Database database,
+      SqlGeneratorChain<CheckStagingKeysStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    var errors = new ValidationErrors();
+    errors.checkRequiredField("stagingTableName", statement.getStagingTableName());
+    return errors;
+  }
+
+  @Override
+  public Sql[] generateSql(
+      CheckStagingKeysStatement statement,
+      Database database,
+      SqlGeneratorChain<CheckStagingKeysStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    return EMPTY_SQL;
+  }
+}
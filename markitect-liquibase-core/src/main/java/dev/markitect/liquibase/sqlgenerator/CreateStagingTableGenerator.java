@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.stream.Collectors.joining;
+
+import dev.markitect.liquibase.statement.CreateStagingTableStatement;
+import liquibase.database.Database;
+import liquibase.database.core.H2Database;
+import liquibase.database.core.HsqlDatabase;
+import liquibase.database.core.MSSQLDatabase;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.exception.ValidationErrors;
+import liquibase.sql.Sql;
+import liquibase.sql.UnparsedSql;
+import liquibase.sqlgenerator.SqlGeneratorChain;
+import liquibase.sqlgenerator.core.AbstractSqlGenerator;
+import liquibase.structure.core.Column;
+import liquibase.structure.core.Table;
+
+public class CreateStagingTableGenerator extends AbstractSqlGenerator<CreateStagingTableStatement> {
+  @Override
+  public boolean supports(CreateStagingTableStatement statement, Database database) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    return database instanceof H2Database
+        || database instanceof HsqlDatabase
+        || database instanceof MSSQLDatabase
+        || database instanceof PostgresDatabase;
+  }
+
+  @Override
+  public ValidationErrors validate(
+      CreateStagingTableStatement statement,
+      Database database,
+      SqlGeneratorChain<CreateStagingTableStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    var errors = new ValidationErrors();
+    errors.checkRequiredField("tableName", statement.getTableName());
+    errors.checkRequiredField("stagingTableName", statement.getStagingTableName());
+    errors.checkRequiredField("columnNames", statement.getColumnNames());
+    return errors;
+  }
+
+  @Override
+  public Sql[] generateSql(
+      CreateStagingTableStatement statement,
+      Database database,
+      SqlGeneratorChain<CreateStagingTableStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    String tableName =
+        database.escapeTableName(
+            statement.getCatalogName(), statement.getSchemaName(), statement.getTableName());
+    String stagingTableName =
+        database.escapeTableName(
+            statement.getCatalogName(), statement.getSchemaName(), statement.getStagingTableName());
+    String columnNames =
+        statement.getColumnNames().stream()
+            .map(columnName -> database.escapeObjectName(columnName, Column.class))
+            .collect(joining(", "));
+    String sql;
+    if (database instanceof MSSQLDatabase) {
+      // The UNION keeps SELECT INTO from copying the IDENTITY property to the staging table
+      sql =
+          "SELECT "
+              + columnNames
+              + " INTO "
+              + stagingTableName
+              + " FROM "
+              + tableName
+              + " WHERE 1 = 0 UNION ALL SELECT "
+              + columnNames
+              + " FROM "
+              + tableName
+              + " WHERE 1 = 0";
+    } else {
+      sql =
+          "CREATE TABLE "
+              + stagingTableName
+              + " AS (SELECT "
+              + columnNames
+              + " FROM "
+              + tableName
+              + ") WITH NO DATA";
+    }
+    var stagingTable =
+        new Table(
+            statement.getCatalogName(), statement.getSchemaName(), statement.getStagingTableName());
+    // No DROP IF EXISTS: the staging name may belong to a table this change did not create, so
+    // an existing table makes the CREATE fail instead
+    return new Sql[] {new UnparsedSql(sql, stagingTable)};
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dev.markitect.liquibase.statement.DropSchemasStatement;
+import liquibase.database.Database;
+import liquibase.database.core.H2Database;
+import liquibase.database.core.HsqlDatabase;
+import liquibase.database.core.MSSQLDatabase;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.exception.ValidationErrors;
+import liquibase.sql.Sql;
+import liquibase.sql.UnparsedSql;
+import liquibase.sqlgenerator.SqlGeneratorChain;
+import liquibase.sqlgenerator.core.AbstractSqlGenerator;
+import liquibase.structure.core.Schema;
+
+public class DropSchemasGenerator extends AbstractSqlGenerator<DropSchemasStatement> {
+  @Override
+  public boolean supports(DropSchemasStatement statement, Database database) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    return database instanceof H2Database
+        || database instanceof HsqlDatabase
+        || database instanceof MSSQLDatabase
+        || database instanceof PostgresDatabase;
+  }
+
+  @Override
+  @SuppressWarnings("DuplicatedCode")
+  public ValidationErrors validate(
+      DropSchemasStatement statement,
+      Database database,
+      SqlGeneratorChain<DropSchemasStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    var errors = new ValidationErrors();
+    errors.checkDisallowedField(
+        "catalogName", statement.getCatalogName(), database, database.getClass());
+    errors.checkRequiredField("schemaNames", statement.getSchemaNames());
+    return errors;
+  }
+
+  @Override
+  @SuppressWarnings("DuplicatedCode")
+  public Sql[] generateSql(
+      DropSchemasStatement statement,
+      Database database,
+      SqlGeneratorChain<DropSchemasStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    var sql = new StringBuilder();
+    var affectedSchemas = new Schema[statement.getSchemaNames().size()];
+    for (int i = 0; i < affectedSchemas.length; i++) {
+      String schemaName = statement.getSchemaNames().get(i);
+      String ddl = "DROP SCHEMA " + database.escapeObjectName(schemaName, Schema.class);
+      if (i > 0) {
+        sql.append(";\n");
+      }
+      if (database instanceof MSSQLDatabase) {
+        // Same batch restriction as CREATE SCHEMA
+        sql.append("EXEC(N'").append(database.escapeStringForDatabase(ddl)).append("')");
+      } else {
+        sql.append(ddl);
+      }
+      affectedSchemas[i] = new Schema(statement.getCatalogName(), schemaName);
+    }
+    return new Sql[] {new UnparsedSql(sql.toString(), affectedSchemas)};
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dev.markitect.liquibase.statement.ListCatalogsStatement;
+import liquibase.database.Database;
+import liquibase.database.core.MSSQLDatabase;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.exception.ValidationErrors;
+import liquibase.sql.Sql;
+import liquibase.sql.UnparsedSql;
+import liquibase.sqlgenerator.SqlGeneratorChain;
+import liquibase.sqlgenerator.core.AbstractSqlGenerator;
+import liquibase.structure.core.Column;
+
+public class ListCatalogsGenerator extends AbstractSqlGenerator<ListCatalogsStatement> {
+  @Override
+  public boolean supports(ListCatalogsStatement statement, Database database) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    return database instanceof MSSQLDatabase || database instanceof PostgresDatabase;
+  }
+
+  @Override
+  public ValidationErrors validate(
+      ListCatalogsStatement statement,
+      Database database,
+      SqlGeneratorChain<ListCatalogsStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    return new ValidationErrors();
+  }
+
+  @Override
+  public Sql[] generateSql(
+      ListCatalogsStatement statement,
+      Database database,
+      SqlGeneratorChain<ListCatalogsStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    String sql;
+    if (database instanceof MSSQLDatabase) {
+      sql =
+          "SELECT "
+              + database.escapeObjectName("name", Column.class)
+              + " FROM "
+              + database.escapeViewName(null, "sys", "databases");
+    } else {
+      sql =
+          "SELECT "
+              + database.escapeObjectName("datname", Column.class)
+              + " FROM "
+              + database.escapeTableName(null, "pg_catalog", "pg_database");
+    }
+    return new Sql[] {new UnparsedSql(sql)};
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dev.markitect.liquibase.statement.ListSchemasStatement;
+import liquibase.database.Database;
+import liquibase.database.core.H2Database;
+import liquibase.database.core.HsqlDatabase;
+import liquibase.database.core.MSSQLDatabase;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.exception.ValidationErrors;
+import liquibase.sql.Sql;
+import liquibase.sql.UnparsedSql;
+import liquibase.sqlgenerator.SqlGeneratorChain;
+import liquibase.sqlgenerator.core.AbstractSqlGenerator;
+import liquibase.structure.core.Column;
+
+public class ListSchemasGenerator extends AbstractSqlGenerator<ListSchemasStatement> {
+  @Override
+  public boolean supports(ListSchemasStatement statement, Database database) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    return database instanceof H2Database
+        || database instanceof HsqlDatabase
+        || database instanceof MSSQLDatabase
+        || database instanceof PostgresDatabase;
+  }
+
+  @Override
+  public ValidationErrors validate(
+      ListSchemasStatement statement,
+      Database database,
+      SqlGeneratorChain<ListSchemasStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    return new ValidationErrors();
+  }
+
+  @Override
+  public Sql[] generateSql(
+      ListSchemasStatement statement,
+      Database database,
+      SqlGeneratorChain<ListSchemasStatement> sqlGeneratorChain) {
+    checkNotNull(statement);
+    checkNotNull(database);
+    checkNotNull(sqlGeneratorChain);
+    String sql;
+    if (database instanceof H2Database || database instanceof HsqlDatabase) {
+      sql =
+          "SELECT "
+              + database.escapeObjectName("SCHEMA_NAME", Column.class)
+              + " FROM "
+              + database.escapeViewName(
+                  statement.getCatalogName(), "INFORMATION_SCHEMA", "SCHEMATA");
+    } else if (database instanceof MSSQLDatabase) {
+      sql =
+          "SELECT "
+              + database.escapeObjectName("name", Column.class)
+              + " FROM "
+              + database.escapeViewName(statement.getCatalogName(), "sys", "schemas");
+    } else {
+      sql =
+          "SELECT "
+              + database.escapeObjectName("nspname", Column.class)
+              + " FROM "
+              + database.escapeTableName(statement.getCatalogName(), "pg_catalog", "pg_namespace");
+    }
+    return new Sql[] {new UnparsedSql(sql)};
+  }
+}
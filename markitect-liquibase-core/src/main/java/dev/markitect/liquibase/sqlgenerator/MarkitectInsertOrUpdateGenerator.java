@@ -24,14 +24,15 @@ import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Set;
 import liquibase.change.ColumnConfig;
 import liquibase.database.Database;
 import liquibase.datatype.DataTypeFactory;
+import liquibase.sql.Sql;
+import liquibase.sql.UnparsedSql;
 import liquibase.sqlgenerator.SqlGenerator;
 import liquibase.statement.DatabaseFunction;
 import liquibase.statement.core.InsertOrUpdateStatement;
@@ -42,69 +43,129 @@ import org.jspecify.annotations.Nullable;
 public interface MarkitectInsertOrUpdateGenerator extends SqlGenerator<InsertOrUpdateStatement> {
   default PreparedSql prepareSql(
       Database database, InsertOrUpdateStatement statement, List<? extends ColumnConfig> columns) {
-    var primaryKeyColumnNames =
-        Arrays.stream(statement.getPrimaryKey().split(","))
-            .map(String::trim)
-            .collect(toCollection(LinkedHashSet::new));
+    return PreparedSqlCache.get(
+        this,
+        database,
+        statement,
+        columns,
+        () -> {
+          var columnValues =
+              ColumnValue.toColumnValues(statement, getPrimaryKeyColumnNames(statement), columns);
+          return isTrue(statement.getOnlyUpdate())
+              ? prepareUpdateSql(database, statement, columnValues)
+              : prepareInsertOrUpdateSql(database, statement, columnValues);
+        });
+  }
+
+  default Sql prepareMergeFromSql(
+      Database database,
+      InsertOrUpdateStatement statement,
+      String sourceTableName,
+      List<? extends ColumnConfig> columns) {
     var columnValues =
-        columns.stream()
-            .map(
-                column ->
-                    new ColumnValue(
-                        column,
-                        column.getName(),
-                        column.getValueObject(),
-                        statement.getAllowColumnUpdate(column.getName()),
-                        primaryKeyColumnNames.contains(column.getName()),
-                        !(column.getValueObject() instanceof DatabaseFunction)))
-            .toList();
+        ColumnValue.toColumnValues(statement, getPrimaryKeyColumnNames(statement), columns);
     return isTrue(statement.getOnlyUpdate())
-        ? prepareUpdateSql(database, statement, columnValues)
-        : prepareInsertOrUpdateSql(database, statement, columnValues);
+        ? prepareUpdateFromSql(database, statement, sourceTableName, columnValues)
+        : prepareInsertOrUpdateFromSql(database, statement, sourceTableName, columnValues);
+  }
+
+  default Set<String> getPrimaryKeyColumnNames(InsertOrUpdateStatement statement) {
+    return Arrays.stream(statement.getPrimaryKey().split(","))
+        .map(String::trim)
+        .collect(toCollection(LinkedHashSet::new));
   }
 
   default PreparedSql prepareUpdateSql(
       Database database, InsertOrUpdateStatement statement, List<ColumnValue> columnValues) {
+    return new PreparedSqlBuilder(this, database, statement, columnValues.size())
+        .append("UPDATE ")
+        .appendTableName()
+        .append(" SET ")
+        .appendAssignments(columnValues, PreparedSqlBuilder::isUpdateColumn, ", ")
+        .append(" WHERE ")
+        .appendAssignments(columnValues, ColumnValue::isPrimaryKeyColumn, " AND ")
+        .toPreparedSql();
+  }
+
+  PreparedSql prepareInsertOrUpdateSql(
+      Database database, InsertOrUpdateStatement statement, List<ColumnValue> columnValues);
+
+  default Sql prepareUpdateFromSql(
+      Database database,
+      InsertOrUpdateStatement statement,
+      String sourceTableName,
+      List<ColumnValue> columnValues) {
+    return new UnparsedSql(
+        toMergeFromSql(database, statement, sourceTableName, columnValues, false),
+        new Table(statement.getCatalogName(), statement.getSchemaName(), statement.getTableName()));
+  }
+
+  default Sql prepareInsertOrUpdateFromSql(
+      Database database,
+      InsertOrUpdateStatement statement,
+      String sourceTableName,
+      List<ColumnValue> columnValues) {
+    return new UnparsedSql(
+        toMergeFromSql(database, statement, sourceTableName, columnValues, true),
+        new Table(statement.getCatalogName(), statement.getSchemaName(), statement.getTableName()));
+  }
+
+  private static String toMergeFromSql(
+      Database database,
+      InsertOrUpdateStatement statement,
+      String sourceTableName,
+      List<ColumnValue> columnValues,
+      boolean insert) {
+    var keyValues = columnValues.stream().filter(ColumnValue::isPrimaryKeyColumn).toList();
     var updateValues =
         columnValues.stream()
             .filter(columnValue -> !columnValue.isPrimaryKeyColumn() && columnValue.isAllowUpdate())
             .toList();
-    var whereValues = columnValues.stream().filter(ColumnValue::isPrimaryKeyColumn).toList();
-    String sql =
-        "UPDATE "
-            + database.escapeTableName(
-                statement.getCatalogName(), statement.getSchemaName(), statement.getTableName())
-            + " SET "
-            + updateValues.stream()
-                .map(
-                    columnValue ->
-                        database.escapeObjectName(columnValue.getName(), Column.class)
-                            + " = "
-                            + columnValueToSql(database, columnValue))
-                .collect(joining(", "))
-            + " WHERE "
-            + whereValues.stream()
-                .map(
-                    columnValue ->
-                        database.escapeObjectName(columnValue.getName(), Column.class)
-                            + " = "
-                            + columnValueToSql(database, columnValue))
-                .collect(joining(" AND "));
-    var bindColumns =
-        Stream.of(updateValues, whereValues)
-            .flatMap(Collection::stream)
-            .filter(ColumnValue::isBindValue)
-            .map(ColumnValue::getColumn)
-            .toList();
-    return new PreparedSql(
-        sql,
-        bindColumns,
-        new Table(statement.getCatalogName(), statement.getSchemaName(), statement.getTableName()));
+    var sql =
+        new StringBuilder("MERGE INTO ")
+            .append(
+                database.escapeTableName(
+                    statement.getCatalogName(),
+                    statement.getSchemaName(),
+                    statement.getTableName()))
+            .append(" AS tgt USING ")
+            .append(
+                database.escapeTableName(
+                    statement.getCatalogName(), statement.getSchemaName(), sourceTableName))
+            .append(" AS src ON ")
+            .append(
+                keyValues.stream()
+                    .map(ColumnValue::getName)
+                    .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                    .map(columnName -> "tgt." + columnName + " = src." + columnName)
+                    .collect(joining(" AND ")));
+    if (!updateValues.isEmpty()) {
+      sql.append(" WHEN MATCHED THEN UPDATE SET ")
+          .append(
+              updateValues.stream()
+                  .map(ColumnValue::getName)
+                  .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                  .map(columnName -> columnName + " = src." + columnName)
+                  .collect(joining(", ")));
+    }
+    if (insert) {
+      sql.append(" WHEN NOT MATCHED THEN INSERT (")
+          .append(
+              columnValues.stream()
+                  .map(ColumnValue::getName)
+                  .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                  .collect(joining(", ")))
+          .append(") VALUES (")
+          .append(
+              columnValues.stream()
+                  .map(ColumnValue::getName)
+                  .map(columnName -> "src." + database.escapeObjectName(columnName, Column.class))
+                  .collect(joining(", ")))
+          .append(")");
+    }
+    return sql.toString();
   }
 
-  PreparedSql prepareInsertOrUpdateSql(
-      Database database, InsertOrUpdateStatement statement, List<ColumnValue> columnValues);
-
   default String columnValueToSql(Database database, ColumnValue columnValue) {
     return columnValue.isBindValue()
         ? "?"
@@ -166,5 +227,22 @@ public interface MarkitectInsertOrUpdateGenerator extends SqlGenerator<InsertOrU
     public boolean isBindValue() {
       return bindValue;
     }
+
+    static List<ColumnValue> toColumnValues(
+        InsertOrUpdateStatement statement,
+        Set<String> primaryKeyColumnNames,
+        List<? extends ColumnConfig> columns) {
+      return columns.stream()
+          .map(
+              column ->
+                  new ColumnValue(
+                      column,
+                      column.getName(),
+                      column.getValueObject(),
+                      statement.getAllowColumnUpdate(column.getName()),
+                      primaryKeyColumnNames.contains(column.getName()),
+                      !(column.getValueObject() instanceof DatabaseFunction)))
+          .toList();
+    }
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,15 +17,12 @@
 package dev.markitect.liquibase.sqlgenerator;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.stream.Collectors.joining;
 
 import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
 import java.util.List;
 import liquibase.database.Database;
 import liquibase.sqlgenerator.core.InsertOrUpdateGeneratorH2;
 import liquibase.statement.core.InsertOrUpdateStatement;
-import liquibase.structure.core.Column;
-import liquibase.structure.core.Table;
 
 public class MarkitectInsertOrUpdateGeneratorH2 extends InsertOrUpdateGeneratorH2
     implements MarkitectInsertOrUpdateGenerator {
@@ -40,31 +37,16 @@ public class MarkitectInsertOrUpdateGeneratorH2 extends InsertOrUpdateGeneratorH
     checkNotNull(database);
     checkNotNull(statement);
     checkNotNull(columnValues);
-    var keyValues = columnValues.stream().filter(ColumnValue::isPrimaryKeyColumn).toList();
-    String sql =
-        "MERGE INTO "
-            + database.escapeTableName(
-                statement.getCatalogName(), statement.getSchemaName(), statement.getTableName())
-            + " ("
-            + columnValues.stream()
-                .map(ColumnValue::getName)
-                .map(columnName -> database.escapeObjectName(columnName, Column.class))
-                .collect(joining(", "))
-            + ") KEY ("
-            + keyValues.stream()
-                .map(ColumnValue::getName)
-                .map(columnName -> database.escapeObjectName(columnName, Column.class))
-                .collect(joining(", "))
-            + ") VALUES ("
-            + columnValues.stream()
-                .map(columnValue -> columnValueToSql(database, columnValue))
-                .collect(joining(", "))
-            + ")";
-    var bindColumns =
-        columnValues.stream().filter(ColumnValue::isBindValue).map(ColumnValue::getColumn).toList();
-    return new PreparedSql(
-        sql,
-        bindColumns,
-        new Table(statement.getCatalogName(), statement.getSchemaName(), statement.getTableName()));
+    return new PreparedSqlBuilder(this, database, statement, columnValues.size())
+        .append("MERGE INTO ")
+        .appendTableName()
+        .append(" (")
+        .appendColumnNames(columnValues, ", ")
+        .append(") KEY (")
+        .appendColumnNames(columnValues, ColumnValue::isPrimaryKeyColumn, ", ")
+        .append(") VALUES (")
+        .appendValues(columnValues, ", ")
+        .append(")")
+        .toPreparedSql();
   }
 }
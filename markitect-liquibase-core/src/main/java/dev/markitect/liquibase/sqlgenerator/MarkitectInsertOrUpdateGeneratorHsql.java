@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,13 +16,13 @@
 
 package dev.markitect.liquibase.sqlgenerator;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.stream.Collectors.joining;
 
 import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Stream;
 import liquibase.database.Database;
 import liquibase.sqlgenerator.core.InsertOrUpdateGeneratorHsql;
 import liquibase.statement.core.InsertOrUpdateStatement;
@@ -30,7 +30,7 @@ import liquibase.structure.core.Column;
 import liquibase.structure.core.Table;
 
 public class MarkitectInsertOrUpdateGeneratorHsql extends InsertOrUpdateGeneratorHsql
-    implements MarkitectInsertOrUpdateGenerator {
+    implements MultiRowInsertOrUpdateGenerator {
   @Override
   public int getPriority() {
     return super.getPriority() + 5;
@@ -42,42 +42,83 @@ public class MarkitectInsertOrUpdateGeneratorHsql extends InsertOrUpdateGenerato
     checkNotNull(database);
     checkNotNull(statement);
     checkNotNull(columnValues);
+    return new PreparedSqlBuilder(this, database, statement, columnValues.size())
+        .append("MERGE INTO ")
+        .appendTableName()
+        .append(" USING (VALUES (1)) ON ")
+        .appendAssignments(columnValues, ColumnValue::isPrimaryKeyColumn, " AND ")
+        .append(" WHEN NOT MATCHED THEN INSERT (")
+        .appendColumnNames(columnValues, ", ")
+        .append(") VALUES (")
+        .appendValues(columnValues, ", ")
+        .append(") WHEN MATCHED THEN UPDATE SET ")
+        .appendAssignments(columnValues, PreparedSqlBuilder::isUpdateColumn, ", ")
+        .toPreparedSql();
+  }
+
+  @Override
+  public PreparedSql prepareMultiRowInsertOrUpdateSql(
+      Database database, InsertOrUpdateStatement statement, List<List<ColumnValue>> rowValues) {
+    checkNotNull(database);
+    checkNotNull(statement);
+    checkNotNull(rowValues);
+    checkArgument(!rowValues.isEmpty(), "rowValues must not be empty");
+    var columnValues = rowValues.get(0);
     var keyValues = columnValues.stream().filter(ColumnValue::isPrimaryKeyColumn).toList();
     var updateValues =
         columnValues.stream()
             .filter(columnValue -> !columnValue.isPrimaryKeyColumn() && columnValue.isAllowUpdate())
             .toList();
+    String tableName =
+        database.escapeTableName(
+            statement.getCatalogName(), statement.getSchemaName(), statement.getTableName());
+    String columnNames =
+        columnValues.stream()
+            .map(ColumnValue::getName)
+            .map(columnName -> database.escapeObjectName(columnName, Column.class))
+            .collect(joining(", "));
+    // The empty SELECT from the target table gives the VALUES parameters their data types
     String sql =
         "MERGE INTO "
-            + database.escapeTableName(
-                statement.getCatalogName(), statement.getSchemaName(), statement.getTableName())
-            + " USING (VALUES (1)) ON "
-            + keyValues.stream()
+            + tableName
+            + " AS tgt USING (SELECT "
+            + columnNames
+            + " FROM "
+            + tableName
+            + " WHERE 1 = 0 UNION ALL VALUES "
+            + rowValues.stream()
                 .map(
-                    columnValue ->
-                        database.escapeObjectName(columnValue.getName(), Column.class)
-                            + " = "
-                            + columnValueToSql(database, columnValue))
-                .collect(joining(" AND "))
-            + " WHEN NOT MATCHED THEN INSERT ("
-            + columnValues.stream()
+                    values ->
+                        values.stream()
+                            .map(columnValue -> columnValueToSql(database, columnValue))
+                            .collect(joining(", ", "(", ")")))
+                .collect(joining(", "))
+            + ") AS src ("
+            + columnNames
+            + ") ON "
+            + keyValues.stream()
                 .map(ColumnValue::getName)
                 .map(columnName -> database.escapeObjectName(columnName, Column.class))
-                .collect(joining(", "))
+                .map(columnName -> "tgt." + columnName + " = src." + columnName)
+                .collect(joining(" AND "))
+            + (updateValues.isEmpty()
+                ? ""
+                : " WHEN MATCHED THEN UPDATE SET "
+                    + updateValues.stream()
+                        .map(ColumnValue::getName)
+                        .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                        .map(columnName -> columnName + " = src." + columnName)
+                        .collect(joining(", ")))
+            + " WHEN NOT MATCHED THEN INSERT ("
+            + columnNames
             + ") VALUES ("
             + columnValues.stream()
-                .map(columnValue -> columnValueToSql(database, columnValue))
+                .map(ColumnValue::getName)
+                .map(columnName -> "src." + database.escapeObjectName(columnName, Column.class))
                 .collect(joining(", "))
-            + ") WHEN MATCHED THEN UPDATE SET "
-            + updateValues.stream()
-                .map(
-                    columnValue ->
-                        database.escapeObjectName(columnValue.getName(), Column.class)
-                            + " = "
-                            + columnValueToSql(database, columnValue))
-                .collect(joining(", "));
+            + ")";
     var bindColumns =
-        Stream.of(keyValues, columnValues, updateValues)
+        rowValues.stream()
             .flatMap(Collection::stream)
             .filter(ColumnValue::isBindValue)
             .map(ColumnValue::getColumn)
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,16 +17,14 @@
 package dev.markitect.liquibase.sqlgenerator;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.stream.Collectors.joining;
 
 import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
-import java.util.Collection;
 import java.util.List;
-import java.util.stream.Stream;
 import liquibase.database.Database;
+import liquibase.sql.Sql;
+import liquibase.sql.UnparsedSql;
 import liquibase.sqlgenerator.core.InsertOrUpdateGeneratorMSSQL;
 import liquibase.statement.core.InsertOrUpdateStatement;
-import liquibase.structure.core.Column;
 import liquibase.structure.core.Table;
 
 public class MarkitectInsertOrUpdateGeneratorMssql extends InsertOrUpdateGeneratorMSSQL
@@ -42,53 +40,51 @@ public class MarkitectInsertOrUpdateGeneratorMssql extends InsertOrUpdateGenerat
     checkNotNull(database);
     checkNotNull(statement);
     checkNotNull(columnValues);
-    var updateValues =
-        columnValues.stream()
-            .filter(columnValue -> !columnValue.isPrimaryKeyColumn() && columnValue.isAllowUpdate())
-            .toList();
-    var whereValues = columnValues.stream().filter(ColumnValue::isPrimaryKeyColumn).toList();
-    String sql =
-        "UPDATE "
-            + database.escapeTableName(
-                statement.getCatalogName(), statement.getSchemaName(), statement.getTableName())
-            + " WITH (UPDLOCK, SERIALIZABLE) SET "
-            + updateValues.stream()
-                .map(
-                    columnValue ->
-                        database.escapeObjectName(columnValue.getName(), Column.class)
-                            + " = "
-                            + columnValueToSql(database, columnValue))
-                .collect(joining(", "))
-            + " WHERE "
-            + whereValues.stream()
-                .map(
-                    columnValue ->
-                        database.escapeObjectName(columnValue.getName(), Column.class)
-                            + " = "
-                            + columnValueToSql(database, columnValue))
-                .collect(joining(" AND "))
-            + "; IF @@ROWCOUNT = 0 INSERT INTO "
-            + database.escapeTableName(
-                statement.getCatalogName(), statement.getSchemaName(), statement.getTableName())
-            + " ("
-            + columnValues.stream()
-                .map(ColumnValue::getName)
-                .map(columnName -> database.escapeObjectName(columnName, Column.class))
-                .collect(joining(", "))
-            + ") VALUES ("
-            + columnValues.stream()
-                .map(columnValue -> columnValueToSql(database, columnValue))
-                .collect(joining(", "))
-            + ")";
-    var bindColumns =
-        Stream.of(updateValues, whereValues, columnValues)
-            .flatMap(Collection::stream)
-            .filter(ColumnValue::isBindValue)
-            .map(ColumnValue::getColumn)
-            .toList();
-    return new PreparedSql(
-        sql,
-        bindColumns,
+    return new PreparedSqlBuilder(this, database, statement, columnValues.size())
+        .append("UPDATE ")
+        .appendTableName()
+        .append(" WITH (UPDLOCK, SERIALIZABLE) SET ")
+        .appendAssignments(columnValues, PreparedSqlBuilder::isUpdateColumn, ", ")
+        .append(" WHERE ")
+        .appendAssignments(columnValues, ColumnValue::isPrimaryKeyColumn, " AND ")
+        .append("; IF @@ROWCOUNT = 0 INSERT INTO ")
+        .appendTableName()
+        .append(" (")
+        .appendColumnNames(columnValues, ", ")
+        .append(") VALUES (")
+        .appendValues(columnValues, ", ")
+        .append(")")
+        .toPreparedSql();
+  }
+
+  @Override
+  public Sql prepareUpdateFromSql(
+      Database database,
+      InsertOrUpdateStatement statement,
+      String sourceTableName,
+      List<ColumnValue> columnValues) {
+    return terminate(
+        MarkitectInsertOrUpdateGenerator.super.prepareUpdateFromSql(
+            database, statement, sourceTableName, columnValues),
+        statement);
+  }
+
+  @Override
+  public Sql prepareInsertOrUpdateFromSql(
+      Database database,
+      InsertOrUpdateStatement statement,
+      String sourceTableName,
+      List<ColumnValue> columnValues) {
+    return terminate(
+        MarkitectInsertOrUpdateGenerator.super.prepareInsertOrUpdateFromSql(
+            database, statement, sourceTableName, columnValues),
+        statement);
+  }
+
+  // SQL Server requires MERGE to be terminated by a semicolon
+  private static Sql terminate(Sql sql, InsertOrUpdateStatement statement) {
+    return new UnparsedSql(
+        sql.toSql() + ";",
         new Table(statement.getCatalogName(), statement.getSchemaName(), statement.getTableName()));
   }
 }
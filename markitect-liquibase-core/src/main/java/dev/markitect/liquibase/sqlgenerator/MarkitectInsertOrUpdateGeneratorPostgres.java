@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,21 +16,23 @@
 
 package dev.markitect.liquibase.sqlgenerator;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.stream.Collectors.joining;
 
 import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Stream;
 import liquibase.database.Database;
+import liquibase.sql.Sql;
+import liquibase.sql.UnparsedSql;
 import liquibase.sqlgenerator.core.InsertOrUpdateGeneratorPostgres;
 import liquibase.statement.core.InsertOrUpdateStatement;
 import liquibase.structure.core.Column;
 import liquibase.structure.core.Table;
 
 public class MarkitectInsertOrUpdateGeneratorPostgres extends InsertOrUpdateGeneratorPostgres
-    implements MarkitectInsertOrUpdateGenerator {
+    implements MultiRowInsertOrUpdateGenerator {
   @Override
   public int getPriority() {
     return super.getPriority() + 5;
@@ -42,6 +44,28 @@ public class MarkitectInsertOrUpdateGeneratorPostgres extends InsertOrUpdateGene
     checkNotNull(database);
     checkNotNull(statement);
     checkNotNull(columnValues);
+    return new PreparedSqlBuilder(this, database, statement, columnValues.size())
+        .append("INSERT INTO ")
+        .appendTableName()
+        .append(" (")
+        .appendColumnNames(columnValues, ", ")
+        .append(") VALUES (")
+        .appendValues(columnValues, ", ")
+        .append(") ON CONFLICT (")
+        .appendColumnNames(columnValues, ColumnValue::isPrimaryKeyColumn, ", ")
+        .append(") DO UPDATE SET ")
+        .appendAssignments(columnValues, PreparedSqlBuilder::isUpdateColumn, ", ")
+        .toPreparedSql();
+  }
+
+  @Override
+  public PreparedSql prepareMultiRowInsertOrUpdateSql(
+      Database database, InsertOrUpdateStatement statement, List<List<ColumnValue>> rowValues) {
+    checkNotNull(database);
+    checkNotNull(statement);
+    checkNotNull(rowValues);
+    checkArgument(!rowValues.isEmpty(), "rowValues must not be empty");
+    var columnValues = rowValues.get(0);
     var keyValues = columnValues.stream().filter(ColumnValue::isPrimaryKeyColumn).toList();
     var updateValues =
         columnValues.stream()
@@ -56,25 +80,30 @@ public class MarkitectInsertOrUpdateGeneratorPostgres extends InsertOrUpdateGene
                 .map(ColumnValue::getName)
                 .map(columnName -> database.escapeObjectName(columnName, Column.class))
                 .collect(joining(", "))
-            + ") VALUES ("
-            + columnValues.stream()
-                .map(columnValue -> columnValueToSql(database, columnValue))
+            + ") VALUES "
+            + rowValues.stream()
+                .map(
+                    values ->
+                        values.stream()
+                            .map(columnValue -> columnValueToSql(database, columnValue))
+                            .collect(joining(", ", "(", ")")))
                 .collect(joining(", "))
-            + ") ON CONFLICT ("
+            + " ON CONFLICT ("
             + keyValues.stream()
                 .map(ColumnValue::getName)
                 .map(columnName -> database.escapeObjectName(columnName, Column.class))
                 .collect(joining(", "))
-            + ") DO UPDATE SET "
-            + updateValues.stream()
-                .map(
-                    columnValue ->
-                        database.escapeObjectName(columnValue.getName(), Column.class)
-                            + " = "
-                            + columnValueToSql(database, columnValue))
-                .collect(joining(", "));
+            + ") "
+            + (updateValues.isEmpty()
+                ? "DO NOTHING"
+                : "DO UPDATE SET "
+                    + updateValues.stream()
+                        .map(ColumnValue::getName)
+                        .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                        .map(columnName -> columnName + " = EXCLUDED." + columnName)
+                        .collect(joining(", ")));
     var bindColumns =
-        Stream.of(columnValues, updateValues)
+        rowValues.stream()
             .flatMap(Collection::stream)
             .filter(ColumnValue::isBindValue)
             .map(ColumnValue::getColumn)
@@ -84,4 +113,93 @@ public class MarkitectInsertOrUpdateGeneratorPostgres extends InsertOrUpdateGene
         bindColumns,
         new Table(statement.getCatalogName(), statement.getSchemaName(), statement.getTableName()));
   }
+
+  @Override
+  public Sql prepareUpdateFromSql(
+      Database database,
+      InsertOrUpdateStatement statement,
+      String sourceTableName,
+      List<ColumnValue> columnValues) {
+    checkNotNull(database);
+    checkNotNull(statement);
+    checkNotNull(sourceTableName);
+    checkNotNull(columnValues);
+    var keyValues = columnValues.stream().filter(ColumnValue::isPrimaryKeyColumn).toList();
+    var updateValues =
+        columnValues.stream()
+            .filter(columnValue -> !columnValue.isPrimaryKeyColumn() && columnValue.isAllowUpdate())
+            .toList();
+    String sql =
+        "UPDATE "
+            + database.escapeTableName(
+                statement.getCatalogName(), statement.getSchemaName(), statement.getTableName())
+            + " AS tgt SET "
+            + updateValues.stream()
+                .map(ColumnValue::getName)
+                .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                .map(columnName -> columnName + " = src." + columnName)
+                .collect(joining(", "))
+            + " FROM "
+            + database.escapeTableName(
+                statement.getCatalogName(), statement.getSchemaName(), sourceTableName)
+            + " AS src WHERE "
+            + keyValues.stream()
+                .map(ColumnValue::getName)
+                .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                .map(columnName -> "tgt." + columnName + " = src." + columnName)
+                .collect(joining(" AND "));
+    return new UnparsedSql(
+        sql,
+        new Table(statement.getCatalogName(), statement.getSchemaName(), statement.getTableName()));
+  }
+
+  @Override
+  public Sql prepareInsertOrUpdateFromSql(
+      Database database,
+      InsertOrUpdateStatement statement,
+      String sourceTableName,
+      List<ColumnValue> columnValues) {
+    checkNotNull(database);
+    checkNotNull(statement);
+    checkNotNull(sourceTableName);
+    checkNotNull(columnValues);
+    var keyValues = columnValues.stream().filter(ColumnValue::isPrimaryKeyColumn).toList();
+    var updateValues =
+        columnValues.stream()
+            .filter(columnValue -> !columnValue.isPrimaryKeyColumn() && columnValue.isAllowUpdate())
+            .toList();
+    String columnNames =
+        columnValues.stream()
+            .map(ColumnValue::getName)
+            .map(columnName -> database.escapeObjectName(columnName, Column.class))
+            .collect(joining(", "));
+    String sql =
+        "INSERT INTO "
+            + database.escapeTableName(
+                statement.getCatalogName(), statement.getSchemaName(), statement.getTableName())
+            + " ("
+            + columnNames
+            + ") SELECT "
+            + columnNames
+            + " FROM "
+            + database.escapeTableName(
+                statement.getCatalogName(), statement.getSchemaName(), sourceTableName)
+            + " ON CONFLICT ("
+            + keyValues.stream()
+                .map(ColumnValue::getName)
+                .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                .collect(joining(", "))
+            + ") "
+            + (updateValues.isEmpty()
+                ? "DO NOTHING"
+                : "DO UPDATE SET "
+                    + updateValues.stream()
+                        .map(ColumnValue::getName)
+                        .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                        .map(columnName -> columnName + " = EXCLUDED." + columnName)
+                        .collect(joining(", ")));
+    return new UnparsedSql(
+        sql,
+        new Table(statement.getCatalogName(), statement.getSchemaName(), statement.getTableName()));
+  }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.util.List;
+import liquibase.change.ColumnConfig;
+import liquibase.database.Database;
+import liquibase.statement.core.InsertOrUpdateStatement;
+
+public interface MultiRowInsertOrUpdateGenerator extends MarkitectInsertOrUpdateGenerator {
+  default PreparedSql prepareMultiRowSql(
+      Database database,
+      InsertOrUpdateStatement statement,
+      List<? extends List<? extends ColumnConfig>> rows) {
+    checkArgument(!rows.isEmpty(), "rows must not be empty");
+    var primaryKeyColumnNames = getPrimaryKeyColumnNames(statement);
+    var rowValues =
+        rows.stream()
+            .map(columns -> ColumnValue.toColumnValues(statement, primaryKeyColumnNames, columns))
+            .toList();
+    return prepareMultiRowInsertOrUpdateSql(database, statement, rowValues);
+  }
+
+  PreparedSql prepareMultiRowInsertOrUpdateSql(
+      Database database, InsertOrUpdateStatement statement, List<List<ColumnValue>> rowValues);
+}
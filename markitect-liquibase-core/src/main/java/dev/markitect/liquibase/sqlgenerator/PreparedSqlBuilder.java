@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.errorprone.annotations.Var;
+import dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGenerator.ColumnValue;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import liquibase.change.ColumnConfig;
+import liquibase.database.Database;
+import liquibase.statement.core.InsertOrUpdateStatement;
+import liquibase.structure.core.Column;
+import liquibase.structure.core.Table;
+
+final class PreparedSqlBuilder {
+  private static final int BASE_CAPACITY = 64;
+  private static final int CAPACITY_PER_COLUMN = 48;
+
+  private final MarkitectInsertOrUpdateGenerator generator;
+  private final Database database;
+  private final InsertOrUpdateStatement statement;
+  private final StringBuilder sql;
+  private final List<ColumnConfig> bindColumns;
+
+  PreparedSqlBuilder(
+      MarkitectInsertOrUpdateGenerator generator,
+      Database database,
+      InsertOrUpdateStatement statement,
+      int columnCount) {
+    this.generator = checkNotNull(generator);
+    this.database = checkNotNull(database);
+    this.statement = checkNotNull(statement);
+    this.sql = new StringBuilder(BASE_CAPACITY + columnCount * CAPACITY_PER_COLUMN);
+    this.bindColumns = new ArrayList<>(columnCount * 2);
+  }
+
+  PreparedSqlBuilder append(String text) {
+    sql.append(text);
+    return this;
+  }
+
+  PreparedSqlBuilder appendTableName() {
+    sql.append(
+        database.escapeTableName(
+            statement.getCatalogName(), statement.getSchemaName(), statement.getTableName()));
+    return this;
+  }
+
+  PreparedSqlBuilder appendColumnNames(List<ColumnValue> columnValues, String delimiter) {
+    return appendColumnNames(columnValues, columnValue -> true, delimiter);
+  }
+
+  PreparedSqlBuilder appendColumnNames(
+      List<ColumnValue> columnValues, Predicate<ColumnValue> filter, String delimiter) {
+    @Var var first = true;
+    for (int i = 0; i < columnValues.size(); i++) {
+      var columnValue = columnValues.get(i);
+      if (filter.test(columnValue)) {
+        first = appendDelimiter(first, delimiter);
+        appendColumnName(columnValue);
+      }
+    }
+    return this;
+  }
+
+  PreparedSqlBuilder appendValues(List<ColumnValue> columnValues, String delimiter) {
+    return appendValues(columnValues, columnValue -> true, delimiter);
+  }
+
+  PreparedSqlBuilder appendValues(
+      List<ColumnValue> columnValues, Predicate<ColumnValue> filter, String delimiter) {
+    @Var var first = true;
+    for (int i = 0; i < columnValues.size(); i++) {
+      var columnValue = columnValues.get(i);
+      if (filter.test(columnValue)) {
+        first = appendDelimiter(first, delimiter);
+        appendValue(columnValue);
+      }
+    }
+    return this;
+  }
+
+  PreparedSqlBuilder appendAssignments(
+      List<ColumnValue> columnValues, Predicate<ColumnValue> filter, String delimiter) {
+    @Var var first = true;
+    for (int i = 0; i < columnValues.size(); i++) {
+      var columnValue = columnValues.get(i);
+      if (filter.test(columnValue)) {
+        first = appendDelimiter(first, delimiter);
+        appendColumnName(columnValue);
+        sql.append(" = ");
+        appendValue(columnValue);
+      }
+    }
+    return this;
+  }
+
+  PreparedSql toPreparedSql() {
+    return new PreparedSql(
+        sql.toString(),
+        bindColumns,
+        new Table(statement.getCatalogName(), statement.getSchemaName(), statement.getTableName()));
+  }
+
+  static boolean isUpdateColumn(ColumnValue columnValue) {
+    return !columnValue.isPrimaryKeyColumn() && columnValue.isAllowUpdate();
+  }
+
+  private boolean appendDelimiter(boolean first, String delimiter) {
+    if (!first) {
+      sql.append(delimiter);
+    }
+    return false;
+  }
+
+  private void appendColumnName(ColumnValue columnValue) {
+    sql.append(database.escapeObjectName(columnValue.getName(), Column.class));
+  }
+
+  // Bind columns are collected in the order their placeholders appear in the SQL
+  private void appendValue(ColumnValue columnValue) {
+    sql.append(generator.columnValueToSql(database, columnValue));
+    if (columnValue.isBindValue()) {
+      bindColumns.add(columnValue.getColumn());
+    }
+  }
+}
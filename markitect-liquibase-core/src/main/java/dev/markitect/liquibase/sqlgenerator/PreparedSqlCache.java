@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import dev.markitect.liquibase.database.NamingPolicy;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import liquibase.change.ColumnConfig;
+import liquibase.database.Database;
+import liquibase.statement.DatabaseFunction;
+import liquibase.statement.core.InsertOrUpdateStatement;
+import liquibase.structure.DatabaseObject;
+import org.jspecify.annotations.Nullable;
+
+public final class PreparedSqlCache {
+  private static final int MAXIMUM_SIZE_PER_DATABASE = 256;
+  private static final Cache<Database, Cache<List<?>, Template>> CACHES =
+      CacheBuilder.newBuilder().weakKeys().build();
+
+  static PreparedSql get(
+      MarkitectInsertOrUpdateGenerator generator,
+      Database database,
+      InsertOrUpdateStatement statement,
+      List<? extends ColumnConfig> columns,
+      Supplier<PreparedSql> loader) {
+    checkNotNull(generator);
+    checkNotNull(database);
+    checkNotNull(statement);
+    checkNotNull(columns);
+    checkNotNull(loader);
+    var columnKey = new ArrayList<@Nullable Object>(columns.size() * 2);
+    for (var column : columns) {
+      // Functions are rendered into the SQL, so only all-bind statements share a template
+      if (column.getValueObject() instanceof DatabaseFunction) {
+        return loader.get();
+      }
+      columnKey.add(column.getName());
+      columnKey.add(statement.getAllowColumnUpdate(column.getName()));
+    }
+    var namingPolicy = NamingPolicy.current();
+    List<?> key =
+        Arrays.asList(
+            generator.getClass(),
+            database.getConnection(),
+            database.getDefaultCatalogName(),
+            database.getDefaultSchemaName(),
+            database.getObjectQuotingStrategy(),
+            database.getOutputDefaultCatalog(),
+            database.getOutputDefaultSchema(),
+            namingPolicy.isPreserveSchemaCase(),
+            namingPolicy.isIncludeCatalogInSpecification(),
+            statement.getCatalogName(),
+            statement.getSchemaName(),
+            statement.getTableName(),
+            statement.getPrimaryKey(),
+            statement.getOnlyUpdate(),
+            columnKey);
+    var cache = CACHES.asMap().computeIfAbsent(database, ignored -> newDatabaseCache());
+    var template = cache.getIfPresent(key);
+    if (template != null) {
+      return template.bind(columns);
+    }
+    var preparedSql = loader.get();
+    var newTemplate = Template.of(preparedSql, columns);
+    if (newTemplate != null) {
+      cache.put(key, newTemplate);
+    }
+    return preparedSql;
+  }
+
+  private static Cache<List<?>, Template> newDatabaseCache() {
+    return CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE_PER_DATABASE).build();
+  }
+
+  private PreparedSqlCache() {}
+
+  private static final class Template {
+    private final String sql;
+    private final String endDelimiter;
+    private final DatabaseObject[] affectedDatabaseObjects;
+    private final int[] bindColumnIndexes;
+
+    private Template(
+        String sql,
+        String endDelimiter,
+        DatabaseObject[] affectedDatabaseObjects,
+        int[] bindColumnIndexes) {
+      this.sql = sql;
+      this.endDelimiter = endDelimiter;
+      this.affectedDatabaseObjects = affectedDatabaseObjects;
+      this.bindColumnIndexes = bindColumnIndexes;
+    }
+
+    private static @Nullable Template of(
+        PreparedSql preparedSql, List<? extends ColumnConfig> columns) {
+      var bindColumns = preparedSql.getBindColumns();
+      var bindColumnIndexes = new int[bindColumns.size()];
+      for (int i = 0; i < bindColumnIndexes.length; i++) {
+        bindColumnIndexes[i] = indexOf(columns, bindColumns.get(i));
+        if (bindColumnIndexes[i] < 0) {
+          return null;
+        }
+      }
+      return new Template(
+          preparedSql.toSql(),
+          preparedSql.getEndDelimiter(),
+          preparedSql.getAffectedDatabaseObjects().toArray(DatabaseObject[]::new),
+          bindColumnIndexes);
+    }
+
+    private static int indexOf(List<? extends ColumnConfig> columns, ColumnConfig column) {
+      for (int i = 0; i < columns.size(); i++) {
+        if (columns.get(i) == column) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private PreparedSql bind(List<? extends ColumnConfig> columns) {
+      var bindColumns = new ArrayList<ColumnConfig>(bindColumnIndexes.length);
+      for (var bindColumnIndex : bindColumnIndexes) {
+        bindColumns.add(columns.get(bindColumnIndex));
+      }
+      return new PreparedSql(sql, bindColumns, endDelimiter, affectedDatabaseObjects);
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,10 @@ package dev.markitect.liquibase.sqlgenerator;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.errorprone.annotations.Var;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
 import dev.markitect.liquibase.statement.SchemaExistsStatement;
+import java.util.List;
+import liquibase.change.ColumnConfig;
 import liquibase.database.Database;
 import liquibase.database.core.H2Database;
 import liquibase.database.core.HsqlDatabase;
@@ -66,6 +69,8 @@ public class SchemaExistsGenerator extends AbstractSqlGenerator<SchemaExistsStat
     checkNotNull(statement);
     checkNotNull(database);
     checkNotNull(sqlGeneratorChain);
+    String schemaName = database.correctObjectName(statement.getSchemaName(), Schema.class);
+    boolean parameterized = statement.isParameterized();
     @Var String sql;
     if (database instanceof H2Database || database instanceof HsqlDatabase) {
       sql =
@@ -74,10 +79,9 @@ public class SchemaExistsGenerator extends AbstractSqlGenerator<SchemaExistsStat
                   statement.getCatalogName(), "INFORMATION_SCHEMA", "SCHEMATA")
               + " WHERE "
               + database.escapeObjectName("SCHEMA_NAME", Column.class)
-              + " = '"
-              + database.escapeStringForDatabase(
-                  database.correctObjectName(statement.getSchemaName(), Schema.class))
-              + "')";
+              + " = "
+              + (parameterized ? "?" : "'" + database.escapeStringForDatabase(schemaName) + "'")
+              + ")";
       if (database instanceof HsqlDatabase) {
         sql +=
             " FROM "
@@ -90,10 +94,9 @@ public class SchemaExistsGenerator extends AbstractSqlGenerator<SchemaExistsStat
               + database.escapeViewName(statement.getCatalogName(), "sys", "schemas")
               + " WHERE "
               + database.escapeObjectName("name", Column.class)
-              + " = N'"
-              + database.escapeStringForDatabase(
-                  database.correctObjectName(statement.getSchemaName(), Schema.class))
-              + "') THEN 1 ELSE 0 END AS "
+              + " = "
+              + (parameterized ? "?" : "N'" + database.escapeStringForDatabase(schemaName) + "'")
+              + ") THEN 1 ELSE 0 END AS "
               + database.escapeDataTypeName("bit")
               + ")";
     } else {
@@ -102,10 +105,14 @@ public class SchemaExistsGenerator extends AbstractSqlGenerator<SchemaExistsStat
               + database.escapeTableName(statement.getCatalogName(), "pg_catalog", "pg_namespace")
               + " WHERE "
               + database.escapeObjectName("nspname", Column.class)
-              + " = '"
-              + database.escapeStringForDatabase(
-                  database.correctObjectName(statement.getSchemaName(), Schema.class))
-              + "')";
+              + " = "
+              + (parameterized ? "?" : "'" + database.escapeStringForDatabase(schemaName) + "'")
+              + ")";
+    }
+    if (parameterized) {
+      return new Sql[] {
+        new PreparedSql(sql, List.of(new ColumnConfig().setName("schemaName").setValue(schemaName)))
+      };
     }
     return new Sql[] {new UnparsedSql(sql)};
   }
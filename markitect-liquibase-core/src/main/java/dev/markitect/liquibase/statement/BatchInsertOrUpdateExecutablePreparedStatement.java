@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.unmodifiableList;
+
+import dev.markitect.liquibase.logging.MarkitectLogger;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import liquibase.Scope;
+import liquibase.change.ColumnConfig;
+import liquibase.changelog.ChangeSet;
+import liquibase.database.Database;
+import liquibase.exception.DatabaseException;
+import liquibase.resource.ResourceAccessor;
+import liquibase.statement.ExecutablePreparedStatementBase;
+import org.jspecify.annotations.Nullable;
+
+public class BatchInsertOrUpdateExecutablePreparedStatement
+    extends ExecutablePreparedStatementBase {
+  private final PreparedSql preparedSql;
+  private final List<List<? extends ColumnConfig>> rows;
+  private final int batchSize;
+  private int pendingRowCount;
+  private int executedRowCount;
+  private int batchNumber;
+
+  @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
+  @SuppressWarnings("squid:S107")
+  public BatchInsertOrUpdateExecutablePreparedStatement(
+      Database database,
+      @Nullable String catalogName,
+      @Nullable String schemaName,
+      @Nullable String tableName,
+      @Nullable ChangeSet changeSet,
+      ResourceAccessor resourceAccessor,
+      PreparedSql preparedSql,
+      List<? extends List<? extends ColumnConfig>> rows,
+      int batchSize) {
+    super(
+        checkNotNull(database),
+        catalogName,
+        schemaName,
+        tableName,
+        checkNotNull(preparedSql).getBindColumns(),
+        changeSet,
+        checkNotNull(resourceAccessor));
+    checkArgument(batchSize > 0, "batchSize must be greater than 0");
+    this.preparedSql = preparedSql;
+    this.rows = unmodifiableList(new ArrayList<>(checkNotNull(rows)));
+    this.batchSize = batchSize;
+  }
+
+  public PreparedSql getPreparedSql() {
+    return preparedSql;
+  }
+
+  @SuppressWarnings("squid:S1452")
+  public List<List<? extends ColumnConfig>> getRows() {
+    return rows;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  @Override
+  public boolean continueOnError() {
+    return false;
+  }
+
+  @Override
+  protected String generateSql(List<ColumnConfig> cols) {
+    checkNotNull(cols);
+    cols.addAll(preparedSql.getBindColumns());
+    return preparedSql.toSql();
+  }
+
+  @Override
+  public List<? extends ColumnConfig> getColumns() {
+    return preparedSql.getBindColumns();
+  }
+
+  @Override
+  protected void attachParams(List<? extends ColumnConfig> ignored, PreparedStatement stmt)
+      throws SQLException, DatabaseException {
+    checkNotNull(stmt);
+    pendingRowCount = 0;
+    executedRowCount = 0;
+    batchNumber = 0;
+    for (var row : rows) {
+      super.attachParams(row, stmt);
+      stmt.addBatch();
+      if (++pendingRowCount == batchSize) {
+        executeBatch(stmt);
+      }
+    }
+  }
+
+  @Override
+  protected void executePreparedStatement(PreparedStatement stmt) throws SQLException {
+    checkNotNull(stmt);
+    if (pendingRowCount > 0) {
+      executeBatch(stmt);
+    }
+  }
+
+  private void executeBatch(PreparedStatement stmt) throws SQLException {
+    batchNumber++;
+    int firstRow = executedRowCount + 1;
+    int lastRow = executedRowCount + pendingRowCount;
+    try {
+      stmt.executeBatch();
+    } catch (BatchUpdateException e) {
+      throw new BatchUpdateException(
+          toFailureMessage(firstRow, lastRow, e),
+          e.getSQLState(),
+          e.getErrorCode(),
+          e.getUpdateCounts(),
+          e);
+    } catch (SQLException e) {
+      throw new SQLException(
+          toFailureMessage(firstRow, lastRow, e), e.getSQLState(), e.getErrorCode(), e);
+    }
+    MarkitectLogger.log(
+        Scope.getCurrentScope().getLog(getClass()),
+        Level.FINE,
+        () ->
+            "Executed batch "
+                + batchNumber
+                + " (rows "
+                + firstRow
+                + "-"
+                + lastRow
+                + ") of "
+                + getTableName());
+    executedRowCount = lastRow;
+    pendingRowCount = 0;
+  }
+
+  private String toFailureMessage(int firstRow, int lastRow, SQLException e) {
+    return "Batch "
+        + batchNumber
+        + " (rows "
+        + firstRow
+        + "-"
+        + lastRow
+        + ") of "
+        + getTableName()
+        + " failed: "
+        + e.getMessage();
+  }
+}
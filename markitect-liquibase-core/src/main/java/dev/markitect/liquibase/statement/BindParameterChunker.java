@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Lists;
+import dev.markitect.liquibase.database.MarkitectDatabase;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.util.List;
+import liquibase.database.Database;
+
+public final class BindParameterChunker {
+  private static final int DEFAULT_MAX_BIND_PARAMETERS = Short.MAX_VALUE;
+
+  public static int getMaxBindParameters(Database database) {
+    checkNotNull(database);
+    return database instanceof MarkitectDatabase markitectDatabase
+        ? markitectDatabase.getMaxBindParameters()
+        : DEFAULT_MAX_BIND_PARAMETERS;
+  }
+
+  public static int getMaxRowsPerStatement(Database database, PreparedSql rowSql) {
+    checkNotNull(rowSql);
+    return getMaxRowsPerStatement(database, rowSql.getBindColumns().size());
+  }
+
+  public static int getMaxRowsPerStatement(Database database, int bindParametersPerRow) {
+    checkArgument(bindParametersPerRow >= 0, "bindParametersPerRow must not be negative");
+    if (bindParametersPerRow == 0) {
+      return Integer.MAX_VALUE;
+    }
+    return Math.max(1, getMaxBindParameters(database) / bindParametersPerRow);
+  }
+
+  public static <T> List<List<T>> chunk(
+      Database database, PreparedSql rowSql, int requestedRowsPerStatement, List<T> rows) {
+    checkArgument(
+        requestedRowsPerStatement > 0, "requestedRowsPerStatement must be greater than 0");
+    checkNotNull(rows);
+    return Lists.partition(
+        rows, Math.min(requestedRowsPerStatement, getMaxRowsPerStatement(database, rowSql)));
+  }
+
+  private BindParameterChunker() {}
+}
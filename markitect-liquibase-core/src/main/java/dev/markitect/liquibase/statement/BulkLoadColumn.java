@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+@SuppressWarnings({"ClassCanBeRecord", "squid:S6206"})
+public class BulkLoadColumn {
+  private final int index;
+  private final String name;
+  private final String type;
+
+  @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
+  public BulkLoadColumn(int index, String name, String type) {
+    this.index = index;
+    this.name = checkNotNull(name);
+    this.type = checkNotNull(type);
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getType() {
+    return type;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import org.jspecify.annotations.Nullable;
 
 public class CatalogExistsStatement extends AbstractSqlStatement {
   private @Nullable String catalogName;
+  private boolean parameterized;
 
   public @Nullable String getCatalogName() {
     return catalogName;
@@ -29,4 +30,12 @@ public class CatalogExistsStatement extends AbstractSqlStatement {
   public void setCatalogName(@Nullable String catalogName) {
     this.catalogName = catalogName;
   }
+
+  public boolean isParameterized() {
+    return parameterized;
+  }
+
+  public void setParameterized(boolean parameterized) {
+    this.parameterized = parameterized;
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.stream.Collectors.joining;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import liquibase.database.Database;
+import liquibase.exception.DatabaseException;
+import liquibase.statement.AbstractSqlStatement;
+import liquibase.statement.ExecutablePreparedStatement;
+import liquibase.statement.PreparedStatementFactory;
+import liquibase.structure.core.Column;
+import org.jspecify.annotations.Nullable;
+
+public class CheckStagingKeysStatement extends AbstractSqlStatement
+    implements ExecutablePreparedStatement {
+  private final @Nullable String stagingTableName;
+  private final List<String> keyColumnNames;
+  private final String sql;
+
+  public CheckStagingKeysStatement(
+      Database database,
+      @Nullable String catalogName,
+      @Nullable String schemaName,
+      @Nullable String stagingTableName,
+      List<String> keyColumnNames) {
+    checkNotNull(database);
+    checkArgument(!keyColumnNames.isEmpty(), "keyColumnNames must not be empty");
+    this.stagingTableName = stagingTableName;
+    this.keyColumnNames = List.copyOf(keyColumnNames);
+    String columnNames =
+        keyColumnNames.stream()
+            .map(columnName -> database.escapeObjectName(columnName, Column.class))
+            .collect(joining(", "));
+    this.sql =
+        "SELECT "
+            + columnNames
+            + " FROM "
+            + database.escapeTableName(catalogName, schemaName, stagingTableName)
+            + " GROUP BY "
+            + columnNames
+            + " HAVING COUNT(*) > 1";
+  }
+
+  public @Nullable String getStagingTableName() {
+    return stagingTableName;
+  }
+
+  public List<String> getKeyColumnNames() {
+    return keyColumnNames;
+  }
+
+  public String getSql() {
+    return sql;
+  }
+
+  @Override
+  public boolean continueOnError() {
+    return false;
+  }
+
+  @Override
+  public void execute(PreparedStatementFactory factory) throws DatabaseException {
+    checkNotNull(factory);
+    try (var stmt = factory.create(sql);
+        var resultSet = stmt.executeQuery()) {
+      if (resultSet.next()) {
+        var key = new ArrayList<String>();
+        for (int i = 0; i < keyColumnNames.size(); i++) {
+          key.add(keyColumnNames.get(i) + "=" + resultSet.getString(i + 1));
+        }
+        throw new DatabaseException(
+            "Staging table "
+                + stagingTableName
+                + " has more than one row for key "
+                + String.join(", ", key)
+                + "; each key may appear only once in the data file");
+      }
+    } catch (SQLException e) {
+      throw new DatabaseException(
+          "Checking the keys of " + stagingTableName + " failed: " + e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+import com.google.errorprone.annotations.Var;
+import dev.markitect.liquibase.logging.MarkitectLogger;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.logging.Level;
+import liquibase.Scope;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.LiquibaseException;
+import liquibase.executor.ExecutorService;
+import liquibase.executor.jvm.JdbcExecutor;
+import liquibase.statement.AbstractSqlStatement;
+import liquibase.statement.ExecutablePreparedStatement;
+import liquibase.statement.PreparedStatementFactory;
+import liquibase.structure.core.Column;
+import org.jspecify.annotations.Nullable;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+public class CopyFromStdinStatement extends AbstractSqlStatement
+    implements ExecutablePreparedStatement {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Database database;
+  private final @Nullable String catalogName;
+  private final @Nullable String schemaName;
+  private final @Nullable String tableName;
+  private final List<BulkLoadColumn> columns;
+  private final CsvReaderSupplier csvReaderSupplier;
+  private final @Nullable String commentLineStartsWith;
+
+  @SuppressWarnings("squid:S107")
+  public CopyFromStdinStatement(
+      Database database,
+      @Nullable String catalogName,
+      @Nullable String schemaName,
+      @Nullable String tableName,
+      List<BulkLoadColumn> columns,
+      CsvReaderSupplier csvReaderSupplier,
+      @Nullable String commentLineStartsWith) {
+    this.database = checkNotNull(database);
+    this.catalogName = catalogName;
+    this.schemaName = schemaName;
+    this.tableName = tableName;
+    this.columns = List.copyOf(checkNotNull(columns));
+    this.csvReaderSupplier = checkNotNull(csvReaderSupplier);
+    this.commentLineStartsWith = commentLineStartsWith;
+  }
+
+  public static boolean isSupported(Database database) {
+    checkNotNull(database);
+    if (!(database.getConnection() instanceof JdbcConnection connection)) {
+      return false;
+    }
+    // The COPY has no SQL to print, so update-sql must fall back to regular statements
+    var executor =
+        Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", database);
+    if (!(executor instanceof JdbcExecutor)) {
+      return false;
+    }
+    try {
+      var underlyingConnection = connection.getUnderlyingConnection();
+      return underlyingConnection != null
+          && underlyingConnection.isWrapperFor(BaseConnection.class);
+    } catch (SQLException | LinkageError e) {
+      return false;
+    }
+  }
+
+  public @Nullable String getCatalogName() {
+    return catalogName;
+  }
+
+  public @Nullable String getSchemaName() {
+    return schemaName;
+  }
+
+  public @Nullable String getTableName() {
+    return tableName;
+  }
+
+  public List<BulkLoadColumn> getColumns() {
+    return columns;
+  }
+
+  public String getCopySql() {
+    return "COPY "
+        + database.escapeTableName(catalogName, schemaName, tableName)
+        + " ("
+        + columns.stream()
+            .map(BulkLoadColumn::getName)
+            .map(columnName -> database.escapeObjectName(columnName, Column.class))
+            .collect(joining(", "))
+        + ") FROM STDIN (FORMAT csv)";
+  }
+
+  @Override
+  public boolean continueOnError() {
+    return false;
+  }
+
+  @Override
+  public void execute(PreparedStatementFactory factory) throws DatabaseException {
+    checkNotNull(factory);
+    String sql = getCopySql();
+    try (var reader = csvReaderSupplier.get()) {
+      var connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+      var copyIn = new CopyManager(connection.unwrap(BaseConnection.class)).copyIn(sql);
+      try {
+        // The change checked every line before choosing COPY, so the rows are appended as they are
+        reader.readNext();
+        var buffer = new StringBuilder(BUFFER_SIZE + 1024);
+        @Var String[] line;
+        while ((line = reader.readNext()) != null) {
+          if (LoadDataValues.isDataLine(line, commentLineStartsWith)) {
+            appendRow(buffer, line);
+            if (buffer.length() >= BUFFER_SIZE) {
+              write(copyIn, buffer);
+            }
+          }
+        }
+        write(copyIn, buffer);
+        long rowCount = copyIn.endCopy();
+        MarkitectLogger.log(
+            Scope.getCurrentScope().getLog(getClass()),
+            Level.FINE,
+            () -> "Copied " + rowCount + " rows into " + tableName);
+      } finally {
+        if (copyIn.isActive()) {
+          copyIn.cancelCopy();
+        }
+      }
+    } catch (IOException | SQLException | LiquibaseException e) {
+      throw new DatabaseException("Copying into " + tableName + " failed: " + e.getMessage(), e);
+    }
+  }
+
+  private void appendRow(StringBuilder buffer, String[] line) {
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        buffer.append(',');
+      }
+      var column = columns.get(i);
+      String value = LoadDataValues.toText(column.getType(), line[column.getIndex()]);
+      if (value != null) {
+        buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+      }
+    }
+    buffer.append('\n');
+  }
+
+  private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+    if (!buffer.isEmpty()) {
+      byte[] bytes = buffer.toString().getBytes(UTF_8);
+      copyIn.writeToCopy(bytes, 0, bytes.length);
+      buffer.setLength(0);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.List;
+import liquibase.statement.AbstractSqlStatement;
+import org.jspecify.annotations.Nullable;
+
+public class CreateSchemasStatement extends AbstractSqlStatement {
+  private @Nullable String catalogName;
+  private List<String> schemaNames = List.of();
+
+  public @Nullable String getCatalogName() {
+    return catalogName;
+  }
+
+  public void setCatalogName(@Nullable String catalogName) {
+    this.catalogName = catalogName;
+  }
+
+  public List<String> getSchemaNames() {
+    return schemaNames;
+  }
+
+  public void setSchemaNames(List<String> schemaNames) {
+    this.schemaNames = List.copyOf(checkNotNull(schemaNames));
+  }
+}
@@ -32,6 +32,7 @@ import liquibase.structure.DatabaseObject;
 import org.jspecify.annotations.Nullable;
 
 public class InsertOrUpdateExecutablePreparedStatement extends ExecutablePreparedStatementBase {
+  private final List<ColumnConfig> rowColumns;
   private final PreparedSql preparedSql;
 
   @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
@@ -53,9 +54,18 @@ public class InsertOrUpdateExecutablePreparedStatement extends ExecutablePrepare
         checkNotNull(columns),
         changeSet,
         checkNotNull(resourceAccessor));
+    this.rowColumns = unmodifiableList(new ArrayList<>(columns));
     this.preparedSql = checkNotNull(preparedSql);
   }
 
+  public List<ColumnConfig> getRowColumns() {
+    return rowColumns;
+  }
+
+  public PreparedSql getPreparedSql() {
+    return preparedSql;
+  }
+
   @Override
   public boolean continueOnError() {
     return false;
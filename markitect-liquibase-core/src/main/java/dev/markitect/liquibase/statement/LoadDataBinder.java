@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.errorprone.annotations.Var;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.io.IOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import liquibase.database.Database;
+import liquibase.database.core.PostgresDatabase;
+import liquibase.exception.DatabaseException;
+import liquibase.util.csv.CSVReader;
+import org.jspecify.annotations.Nullable;
+
+final class LoadDataBinder {
+  private final Database database;
+  private final List<BulkLoadColumn> bindColumns;
+  private final @Nullable String commentLineStartsWith;
+  private final int batchSize;
+
+  LoadDataBinder(
+      Database database,
+      PreparedSql preparedSql,
+      List<BulkLoadColumn> columns,
+      @Nullable String commentLineStartsWith,
+      int batchSize) {
+    checkArgument(batchSize > 0, "batchSize must be greater than 0");
+    this.database = checkNotNull(database);
+    this.bindColumns = toBindColumns(checkNotNull(preparedSql), checkNotNull(columns));
+    this.commentLineStartsWith = commentLineStartsWith;
+    this.batchSize = batchSize;
+  }
+
+  List<BulkLoadColumn> getBindColumns() {
+    return bindColumns;
+  }
+
+  int getBatchSize() {
+    return batchSize;
+  }
+
+  // Only the current batch is held in memory, rows are discarded once their batch is executed
+  long executeBatches(PreparedStatement stmt, CSVReader reader)
+      throws IOException, SQLException, DatabaseException {
+    return executeBatches(stmt, reader, null);
+  }
+
+  // Checks the values while reading, for loads chosen from the header alone
+  long executeCheckedBatches(PreparedStatement stmt, CSVReader reader, int headerCount)
+      throws IOException, SQLException, DatabaseException {
+    return executeBatches(stmt, reader, headerCount);
+  }
+
+  private long executeBatches(
+      PreparedStatement stmt, CSVReader reader, @Nullable Integer headerCount)
+      throws IOException, SQLException, DatabaseException {
+    checkNotNull(stmt);
+    checkNotNull(reader);
+    @Var long rowCount = 0;
+    @Var int pendingRowCount = 0;
+    @Var long recordLineNumber = reader.getLinesRead() + 1;
+    @Var String[] line;
+    while ((line = reader.readNext()) != null) {
+      if (LoadDataValues.isDataLine(line, commentLineStartsWith)) {
+        if (headerCount != null) {
+          checkRow(line, headerCount, recordLineNumber);
+        }
+        bindRow(stmt, line);
+        stmt.addBatch();
+        rowCount++;
+        if (++pendingRowCount == batchSize) {
+          stmt.executeBatch();
+          pendingRowCount = 0;
+        }
+      }
+      // A quoted value may span several lines, so the next record starts after all of them
+      recordLineNumber = reader.getLinesRead() + 1;
+    }
+    if (pendingRowCount > 0) {
+      stmt.executeBatch();
+    }
+    return rowCount;
+  }
+
+  private void checkRow(String[] line, int headerCount, long lineNumber) throws DatabaseException {
+    if (line.length != headerCount) {
+      throw new DatabaseException(
+          "Line " + lineNumber + " has " + line.length + " values, expected " + headerCount);
+    }
+    for (var column : bindColumns) {
+      if (!LoadDataValues.isBulkLoadValue(column.getType(), line[column.getIndex()])) {
+        throw new DatabaseException(
+            "Line "
+                + lineNumber
+                + " has a value for "
+                + column.getName()
+                + " that is not a valid "
+                + column.getType());
+      }
+    }
+  }
+
+  private void bindRow(PreparedStatement stmt, String[] line) throws SQLException {
+    for (int i = 0; i < bindColumns.size(); i++) {
+      var column = bindColumns.get(i);
+      var valueObject = LoadDataValues.toValueObject(column.getType(), line[column.getIndex()]);
+      bindValue(stmt, i + 1, column.getType(), valueObject);
+    }
+  }
+
+  private void bindValue(
+      PreparedStatement stmt, int parameterIndex, String type, @Nullable Object valueObject)
+      throws SQLException {
+    if (valueObject == null) {
+      stmt.setNull(parameterIndex, Types.NULL);
+    } else if (valueObject instanceof Timestamp timestamp) {
+      stmt.setTimestamp(parameterIndex, timestamp);
+    } else if (valueObject instanceof Date date) {
+      stmt.setDate(parameterIndex, date);
+    } else if (valueObject instanceof Time time) {
+      stmt.setTime(parameterIndex, time);
+    } else if (valueObject instanceof java.util.Date date) {
+      stmt.setTimestamp(parameterIndex, new Timestamp(date.getTime()));
+    } else if ("UUID".equals(type.toUpperCase(Locale.ROOT))
+        && database instanceof PostgresDatabase) {
+      stmt.setObject(parameterIndex, UUID.fromString(valueObject.toString()));
+    } else if (valueObject instanceof String string) {
+      stmt.setString(parameterIndex, string);
+    } else {
+      stmt.setObject(parameterIndex, valueObject);
+    }
+  }
+
+  // Bind columns are matched by name, a column may be bound more than once
+  private static List<BulkLoadColumn> toBindColumns(
+      PreparedSql preparedSql, List<BulkLoadColumn> columns) {
+    return preparedSql.getBindColumns().stream()
+        .map(
+            bindColumn ->
+                columns.stream()
+                    .filter(column -> column.getName().equals(bindColumn.getName()))
+                    .findFirst()
+                    .orElseThrow(
+                        () ->
+                            new IllegalArgumentException(
+                                "No column for parameter " + bindColumn.getName())))
+        .toList();
+  }
+}
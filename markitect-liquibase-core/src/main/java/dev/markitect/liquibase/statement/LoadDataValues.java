@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.Set;
+import liquibase.change.ColumnConfig;
+import liquibase.util.ISODateFormat;
+import org.jspecify.annotations.Nullable;
+
+public final class LoadDataValues {
+  private static final Set<String> BULK_LOAD_TYPES =
+      Set.of("BOOLEAN", "DATE", "DATETIME", "NUMERIC", "STRING", "UUID");
+
+  public static boolean isBulkLoadType(@Nullable String type) {
+    return type != null && BULK_LOAD_TYPES.contains(type.toUpperCase(Locale.ROOT));
+  }
+
+  public static boolean isBulkLoadValue(String type, @Nullable String value) {
+    checkNotNull(type);
+    return toValueConfig(type, value).getValueComputed() == null;
+  }
+
+  public static @Nullable Object toValueObject(String type, @Nullable String value) {
+    checkNotNull(type);
+    return toValueConfig(type, value).getValueObject();
+  }
+
+  public static @Nullable String toText(String type, @Nullable String value) {
+    var valueObject = toValueObject(type, value);
+    if (valueObject == null) {
+      return null;
+    }
+    if (valueObject instanceof java.sql.Date
+        || valueObject instanceof java.sql.Time
+        || valueObject instanceof java.sql.Timestamp) {
+      return valueObject.toString();
+    }
+    return valueObject instanceof Date date
+        ? new ISODateFormat().format(date)
+        : valueObject.toString();
+  }
+
+  public static boolean isDataLine(String[] line, @Nullable String commentLineStartsWith) {
+    checkNotNull(line);
+    if (line.length == 0 || (line.length == 1 && line[0].isBlank())) {
+      return false;
+    }
+    return commentLineStartsWith == null
+        || commentLineStartsWith.isEmpty()
+        || !line[0].startsWith(commentLineStartsWith);
+  }
+
+  // Mirrors how loadData turns a cell into a column value, anything computed cannot be bulk loaded
+  private static ColumnConfig toValueConfig(String type, @Nullable String value) {
+    var valueConfig = new ColumnConfig();
+    if (value == null
+        || "NULL".equalsIgnoreCase(value)
+        || (value.isEmpty() && !"STRING".equalsIgnoreCase(type))) {
+      return valueConfig;
+    }
+    switch (type.toUpperCase(Locale.ROOT)) {
+      case "BOOLEAN" -> valueConfig.setValueBoolean(value);
+      case "NUMERIC" -> valueConfig.setValueNumeric(value);
+      case "DATE", "DATETIME" -> valueConfig.setValueDate(value);
+      default -> valueConfig.setValue(value);
+    }
+    return valueConfig;
+  }
+
+  private LoadDataValues() {}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import dev.markitect.liquibase.database.ConnectionSupplier;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import liquibase.Scope;
+import liquibase.database.Database;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.LiquibaseException;
+import liquibase.statement.AbstractSqlStatement;
+import liquibase.statement.ExecutablePreparedStatement;
+import liquibase.statement.PreparedStatementFactory;
+import org.jspecify.annotations.Nullable;
+
+public class ParallelLoadDataStatement extends AbstractSqlStatement
+    implements ExecutablePreparedStatement {
+  private final @Nullable String tableName;
+  private final PreparedSql preparedSql;
+  private final LoadDataBinder binder;
+  private final List<CsvReaderSupplier> partitions;
+  private final ConnectionSupplier connectionSupplier;
+  private final int parallelism;
+
+  @SuppressWarnings("squid:S107")
+  public ParallelLoadDataStatement(
+      Database database,
+      @Nullable String tableName,
+      PreparedSql preparedSql,
+      List<BulkLoadColumn> columns,
+      List<CsvReaderSupplier> partitions,
+      @Nullable String commentLineStartsWith,
+      int batchSize,
+      ConnectionSupplier connectionSupplier,
+      int parallelism) {
+    checkArgument(parallelism > 0, "parallelism must be greater than 0");
+    this.tableName = tableName;
+    this.preparedSql = checkNotNull(preparedSql);
+    this.binder =
+        new LoadDataBinder(database, preparedSql, columns, commentLineStartsWith, batchSize);
+    this.partitions = List.copyOf(checkNotNull(partitions));
+    checkArgument(!this.partitions.isEmpty(), "partitions must not be empty");
+    this.connectionSupplier = checkNotNull(connectionSupplier);
+    this.parallelism = parallelism;
+  }
+
+  public @Nullable String getTableName() {
+    return tableName;
+  }
+
+  public PreparedSql getPreparedSql() {
+    return preparedSql;
+  }
+
+  public int getPartitionCount() {
+    return partitions.size();
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  @Override
+  public boolean continueOnError() {
+    return false;
+  }
+
+  // Each partition is loaded and committed on its own connection, failures are reported together
+  @Override
+  public void execute(PreparedStatementFactory factory) throws DatabaseException {
+    checkNotNull(factory);
+    var executor =
+        Executors.newFixedThreadPool(
+            Math.min(parallelism, partitions.size()),
+            new ThreadFactoryBuilder().setNameFormat("markitect-load-data-%d").build());
+    try {
+      var futures = new ArrayList<Future<?>>(partitions.size());
+      for (int i = 0; i < partitions.size(); i++) {
+        int partition = i;
+        futures.add(executor.submit(() -> loadPartition(partition)));
+      }
+      var failures = new ArrayList<Throwable>();
+      for (var future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          failures.add(e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new DatabaseException("Loading into " + tableName + " was interrupted", e);
+        }
+      }
+      if (!failures.isEmpty()) {
+        var exception =
+            new DatabaseException(
+                failures.size()
+                    + " of "
+                    + partitions.size()
+                    + " partitions failed loading into "
+                    + tableName
+                    + ": "
+                    + failures.get(0).getMessage(),
+                failures.get(0));
+        failures.stream().skip(1).forEach(exception::addSuppressed);
+        throw exception;
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private @Nullable Void loadPartition(int partition)
+      throws IOException, SQLException, LiquibaseException {
+    long startTime = System.nanoTime();
+    try (var connection = connectionSupplier.getConnection();
+        var reader = partitions.get(partition).get()) {
+      connection.setAutoCommit(false);
+      long rowCount;
+      try (var stmt = connection.prepareStatement(preparedSql.toSql())) {
+        rowCount = binder.executeBatches(stmt, reader);
+        connection.commit();
+      } catch (IOException | SQLException | DatabaseException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      }
+      long elapsedMillis =
+          Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+      Scope.getCurrentScope()
+          .getLog(getClass())
+          .info(
+              "Loaded partition "
+                  + (partition + 1)
+                  + " of "
+                  + partitions.size()
+                  + " into "
+                  + tableName
+                  + ": "
+                  + rowCount
+                  + " rows in "
+                  + elapsedMillis
+                  + " ms ("
+                  + rowCount * 1000 / elapsedMillis
+                  + " rows/s)");
+    }
+    return null;
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import org.jspecify.annotations.Nullable;
 public class SchemaExistsStatement extends AbstractSqlStatement {
   private @Nullable String catalogName;
   private @Nullable String schemaName;
+  private boolean parameterized;
 
   public @Nullable String getCatalogName() {
     return catalogName;
@@ -38,4 +39,12 @@ public class SchemaExistsStatement extends AbstractSqlStatement {
   public void setSchemaName(@Nullable String schemaName) {
     this.schemaName = schemaName;
   }
+
+  public boolean isParameterized() {
+    return parameterized;
+  }
+
+  public void setParameterized(boolean parameterized) {
+    this.parameterized = parameterized;
+  }
 }
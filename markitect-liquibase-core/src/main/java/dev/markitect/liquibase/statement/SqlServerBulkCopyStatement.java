@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.stream.Collectors.joining;
+
+import com.google.errorprone.annotations.Var;
+import com.microsoft.sqlserver.jdbc.ISQLServerBulkData;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopy;
+import com.microsoft.sqlserver.jdbc.SQLServerBulkCopyOptions;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+import dev.markitect.liquibase.logging.MarkitectLogger;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import liquibase.Scope;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.LiquibaseException;
+import liquibase.executor.ExecutorService;
+import liquibase.executor.jvm.JdbcExecutor;
+import liquibase.statement.AbstractSqlStatement;
+import liquibase.statement.ExecutablePreparedStatement;
+import liquibase.statement.PreparedStatementFactory;
+import liquibase.structure.core.Column;
+import liquibase.util.csv.CSVReader;
+import org.jspecify.annotations.Nullable;
+
+public class SqlServerBulkCopyStatement extends AbstractSqlStatement
+    implements ExecutablePreparedStatement {
+  private final Database database;
+  private final @Nullable String catalogName;
+  private final @Nullable String schemaName;
+  private final @Nullable String tableName;
+  private final List<BulkLoadColumn> columns;
+  private final CsvReaderSupplier csvReaderSupplier;
+  private final @Nullable String commentLineStartsWith;
+  private final boolean keepIdentity;
+  private final boolean tableLock;
+  private final @Nullable Integer batchSize;
+
+  @SuppressWarnings("squid:S107")
+  public SqlServerBulkCopyStatement(
+      Database database,
+      @Nullable String catalogName,
+      @Nullable String schemaName,
+      @Nullable String tableName,
+      List<BulkLoadColumn> columns,
+      CsvReaderSupplier csvReaderSupplier,
+      @Nullable String commentLineStartsWith,
+      boolean keepIdentity,
+      boolean tableLock,
+      @Nullable Integer batchSize) {
+    checkArgument(batchSize == null || batchSize > 0, "batchSize must be greater than 0");
+    this.database = checkNotNull(database);
+    this.catalogName = catalogName;
+    this.schemaName = schemaName;
+    this.tableName = tableName;
+    this.columns = List.copyOf(checkNotNull(columns));
+    this.csvReaderSupplier = checkNotNull(csvReaderSupplier);
+    this.commentLineStartsWith = commentLineStartsWith;
+    this.keepIdentity = keepIdentity;
+    this.tableLock = tableLock;
+    this.batchSize = batchSize;
+  }
+
+  public static boolean isSupported(Database database) {
+    checkNotNull(database);
+    if (!(database.getConnection() instanceof JdbcConnection connection)) {
+      return false;
+    }
+    // The bulk copy has no SQL to print, so update-sql must fall back to regular statements
+    var executor =
+        Scope.getCurrentScope().getSingleton(ExecutorService.class).getExecutor("jdbc", database);
+    if (!(executor instanceof JdbcExecutor)) {
+      return false;
+    }
+    try {
+      var underlyingConnection = connection.getUnderlyingConnection();
+      return underlyingConnection != null
+          && underlyingConnection.isWrapperFor(SQLServerConnection.class);
+    } catch (SQLException | LinkageError e) {
+      return false;
+    }
+  }
+
+  public @Nullable String getCatalogName() {
+    return catalogName;
+  }
+
+  public @Nullable String getSchemaName() {
+    return schemaName;
+  }
+
+  public @Nullable String getTableName() {
+    return tableName;
+  }
+
+  public List<BulkLoadColumn> getColumns() {
+    return columns;
+  }
+
+  public boolean isKeepIdentity() {
+    return keepIdentity;
+  }
+
+  public boolean isTableLock() {
+    return tableLock;
+  }
+
+  public @Nullable Integer getBatchSize() {
+    return batchSize;
+  }
+
+  @Override
+  public boolean continueOnError() {
+    return false;
+  }
+
+  @Override
+  public void execute(PreparedStatementFactory factory) throws DatabaseException {
+    checkNotNull(factory);
+    String destinationTableName = database.escapeTableName(catalogName, schemaName, tableName);
+    try (var reader = csvReaderSupplier.get()) {
+      var connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+      var columnTypes = getColumnTypes(connection, destinationTableName);
+      var options = new SQLServerBulkCopyOptions();
+      options.setKeepIdentity(keepIdentity);
+      options.setKeepNulls(true);
+      options.setTableLock(tableLock);
+      if (batchSize != null) {
+        options.setBatchSize(batchSize);
+      }
+      try (var bulkCopy = new SQLServerBulkCopy(connection.unwrap(SQLServerConnection.class))) {
+        bulkCopy.setBulkCopyOptions(options);
+        bulkCopy.setDestinationTableName(destinationTableName);
+        for (int i = 0; i < columns.size(); i++) {
+          bulkCopy.addColumnMapping(i + 1, columns.get(i).getName());
+        }
+        reader.readNext();
+        var bulkData = new CsvBulkData(reader, columns, columnTypes, commentLineStartsWith);
+        bulkCopy.writeToServer(bulkData);
+        MarkitectLogger.log(
+            Scope.getCurrentScope().getLog(getClass()),
+            Level.FINE,
+            () -> "Bulk copied " + bulkData.rowCount + " rows into " + tableName);
+      }
+    } catch (IOException | SQLException | LiquibaseException e) {
+      throw new DatabaseException("Bulk copy into " + tableName + " failed: " + e.getMessage(), e);
+    }
+  }
+
+  private int[][] getColumnTypes(Connection connection, String destinationTableName)
+      throws SQLException {
+    String sql =
+        "SELECT "
+            + columns.stream()
+                .map(BulkLoadColumn::getName)
+                .map(columnName -> database.escapeObjectName(columnName, Column.class))
+                .collect(joining(", "))
+            + " FROM "
+            + destinationTableName
+            + " WHERE 1 = 0";
+    try (var stmt = connection.createStatement();
+        var resultSet = stmt.executeQuery(sql)) {
+      var metaData = resultSet.getMetaData();
+      var columnTypes = new int[columns.size()][];
+      for (int i = 0; i < columns.size(); i++) {
+        columnTypes[i] =
+            new int[] {
+              metaData.getColumnType(i + 1), metaData.getPrecision(i + 1), metaData.getScale(i + 1)
+            };
+      }
+      return columnTypes;
+    }
+  }
+
+  // Converts cells the same way SQLServerBulkCSVFileRecord does for the destination column types
+  private static @Nullable Object toBulkValue(@Nullable String text, int jdbcType, int scale) {
+    if (text == null) {
+      return null;
+    }
+    return switch (jdbcType) {
+      case Types.BIT, Types.BOOLEAN -> "1".equals(text) || Boolean.parseBoolean(text);
+      case Types.TINYINT, Types.SMALLINT -> Short.valueOf(text);
+      case Types.INTEGER -> Integer.valueOf(text);
+      case Types.BIGINT -> new BigDecimal(text).setScale(0, RoundingMode.DOWN).longValueExact();
+      case Types.DECIMAL, Types.NUMERIC ->
+          new BigDecimal(text).setScale(scale, RoundingMode.HALF_UP);
+      case Types.REAL -> Float.valueOf(text);
+      case Types.FLOAT, Types.DOUBLE -> Double.valueOf(text);
+      default -> text;
+    };
+  }
+
+  private static final class CsvBulkData implements ISQLServerBulkData {
+    private static final long serialVersionUID = 1L;
+
+    private final transient CSVReader reader;
+    private final transient List<BulkLoadColumn> columns;
+    private final int[][] columnTypes;
+    private final @Nullable String commentLineStartsWith;
+    private transient String @Nullable [] line;
+    private long rowCount;
+
+    private CsvBulkData(
+        CSVReader reader,
+        List<BulkLoadColumn> columns,
+        int[][] columnTypes,
+        @Nullable String commentLineStartsWith) {
+      this.reader = reader;
+      this.columns = columns;
+      this.columnTypes = columnTypes;
+      this.commentLineStartsWith = commentLineStartsWith;
+    }
+
+    @Override
+    public Set<Integer> getColumnOrdinals() {
+      return IntStream.rangeClosed(1, columns.size()).boxed().collect(Collectors.toSet());
+    }
+
+    @Override
+    public String getColumnName(int column) {
+      return columns.get(column - 1).getName();
+    }
+
+    @Override
+    public int getColumnType(int column) {
+      return columnTypes[column - 1][0];
+    }
+
+    @Override
+    public int getPrecision(int column) {
+      return columnTypes[column - 1][1];
+    }
+
+    @Override
+    public int getScale(int column) {
+      return columnTypes[column - 1][2];
+    }
+
+    @Override
+    public Object[] getRowData() throws SQLException {
+      var currentLine = checkNotNull(line);
+      var rowData = new Object[columns.size()];
+      for (int i = 0; i < columns.size(); i++) {
+        var column = columns.get(i);
+        String text = LoadDataValues.toText(column.getType(), currentLine[column.getIndex()]);
+        try {
+          rowData[i] = toBulkValue(text, columnTypes[i][0], columnTypes[i][2]);
+        } catch (NumberFormatException | ArithmeticException e) {
+          throw new SQLException(
+              "Row " + rowCount + ", column " + column.getName() + ": " + e.getMessage(), e);
+        }
+      }
+      return rowData;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+      try {
+        @Var String[] nextLine;
+        while ((nextLine = reader.readNext()) != null) {
+          if (LoadDataValues.isDataLine(nextLine, commentLineStartsWith)) {
+            line = nextLine;
+            rowCount++;
+            return true;
+          }
+        }
+        line = null;
+        return false;
+      } catch (IOException e) {
+        throw new SQLException(e.getMessage(), e);
+      }
+    }
+  }
+}
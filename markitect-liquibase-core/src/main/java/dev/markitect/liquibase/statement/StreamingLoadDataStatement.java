@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dev.markitect.liquibase.logging.MarkitectLogger;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.logging.Level;
+import liquibase.Scope;
+import liquibase.database.Database;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.LiquibaseException;
+import liquibase.statement.AbstractSqlStatement;
+import liquibase.statement.ExecutablePreparedStatement;
+import liquibase.statement.PreparedStatementFactory;
+import org.jspecify.annotations.Nullable;
+
+public class StreamingLoadDataStatement extends AbstractSqlStatement
+    implements ExecutablePreparedStatement {
+  private final @Nullable String tableName;
+  private final PreparedSql preparedSql;
+  private final LoadDataBinder binder;
+  private final CsvReaderSupplier csvReaderSupplier;
+
+  @SuppressWarnings("squid:S107")
+  public StreamingLoadDataStatement(
+      Database database,
+      @Nullable String tableName,
+      PreparedSql preparedSql,
+      List<BulkLoadColumn> columns,
+      CsvReaderSupplier csvReaderSupplier,
+      @Nullable String commentLineStartsWith,
+      int batchSize) {
+    this.tableName = tableName;
+    this.preparedSql = checkNotNull(preparedSql);
+    this.binder =
+        new LoadDataBinder(database, preparedSql, columns, commentLineStartsWith, batchSize);
+    this.csvReaderSupplier = checkNotNull(csvReaderSupplier);
+  }
+
+  public @Nullable String getTableName() {
+    return tableName;
+  }
+
+  public PreparedSql getPreparedSql() {
+    return preparedSql;
+  }
+
+  public List<BulkLoadColumn> getBindColumns() {
+    return binder.getBindColumns();
+  }
+
+  public int getBatchSize() {
+    return binder.getBatchSize();
+  }
+
+  @Override
+  public boolean continueOnError() {
+    return false;
+  }
+
+  @Override
+  public void execute(PreparedStatementFactory factory) throws DatabaseException {
+    checkNotNull(factory);
+    try (var reader = csvReaderSupplier.get();
+        var stmt = factory.create(preparedSql.toSql())) {
+      String[] headers = reader.readNext();
+      long rowCount =
+          binder.executeCheckedBatches(stmt, reader, headers != null ? headers.length : 0);
+      MarkitectLogger.log(
+          Scope.getCurrentScope().getLog(getClass()),
+          Level.FINE,
+          () -> "Streamed " + rowCount + " rows into " + tableName);
+    } catch (IOException | SQLException | LiquibaseException e) {
+      throw new DatabaseException("Streaming into " + tableName + " failed: " + e.getMessage(), e);
+    }
+  }
+}
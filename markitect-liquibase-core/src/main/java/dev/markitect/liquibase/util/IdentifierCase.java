@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.util;
+
+public enum IdentifierCase {
+  ILLEGAL,
+  CASELESS,
+  UPPER_CASE,
+  LOWER_CASE,
+  MIXED_CASE;
+
+  public boolean isUpperCase() {
+    return this == CASELESS || this == UPPER_CASE;
+  }
+
+  public boolean isLowerCase() {
+    return this == CASELESS || this == LOWER_CASE;
+  }
+}
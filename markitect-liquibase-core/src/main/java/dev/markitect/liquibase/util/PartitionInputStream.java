@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.errorprone.annotations.Var;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+// Reads the lines of a byte range, a line belongs to the range its first byte falls in
+public final class PartitionInputStream extends FilterInputStream {
+  private final long end;
+  private long position;
+  private int previousByte;
+
+  public PartitionInputStream(InputStream in, long start, long end) throws IOException {
+    super(new BufferedInputStream(checkNotNull(in)));
+    checkArgument(start >= 0, "start must not be negative");
+    checkArgument(end >= start, "end must not be before start");
+    this.end = end;
+    this.previousByte = '\n';
+    if (start > 0) {
+      // Skip the line that started in the previous range
+      this.in.skipNBytes(start - 1);
+      position = start - 1;
+      @Var int b;
+      do {
+        b = this.in.read();
+        if (b >= 0) {
+          position++;
+          previousByte = b;
+        }
+      } while (b >= 0 && b != '\n');
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (isAtEnd()) {
+      return -1;
+    }
+    int b = in.read();
+    if (b >= 0) {
+      position++;
+      previousByte = b;
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    checkNotNull(b);
+    @Var int count = 0;
+    while (count < len) {
+      int next = read();
+      if (next < 0) {
+        return count == 0 && len > 0 ? -1 : count;
+      }
+      b[off + count++] = (byte) next;
+    }
+    return count;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    @Var long skipped = 0;
+    while (skipped < n && read() >= 0) {
+      skipped++;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    return 0;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  private boolean isAtEnd() {
+    return position >= end && previousByte == '\n';
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,14 +18,54 @@ package dev.markitect.liquibase.util;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import java.util.regex.Pattern;
+import com.google.errorprone.annotations.Var;
 
 public final class Strings {
-  private static final Pattern LEGAL_IDENTIFIER_PATTERN = Pattern.compile("[a-zA-Z_]\\w*");
+  private static final byte IDENTIFIER_START = 1;
+  private static final byte IDENTIFIER_PART = 2;
+  private static final byte UPPER_CASE_LETTER = 4;
+  private static final byte LOWER_CASE_LETTER = 8;
+  private static final byte[] IDENTIFIER_CHARS = new byte[128];
+
+  static {
+    // The ASCII equivalent of [a-zA-Z_]\w*
+    for (char c = 'A'; c <= 'Z'; c++) {
+      IDENTIFIER_CHARS[c] = IDENTIFIER_START | IDENTIFIER_PART | UPPER_CASE_LETTER;
+    }
+    for (char c = 'a'; c <= 'z'; c++) {
+      IDENTIFIER_CHARS[c] = IDENTIFIER_START | IDENTIFIER_PART | LOWER_CASE_LETTER;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      IDENTIFIER_CHARS[c] = IDENTIFIER_PART;
+    }
+    IDENTIFIER_CHARS['_'] = IDENTIFIER_START | IDENTIFIER_PART;
+  }
 
   public static boolean isIllegalIdentifier(String objectName) {
+    return scanIdentifier(objectName) == IdentifierCase.ILLEGAL;
+  }
+
+  public static IdentifierCase scanIdentifier(String objectName) {
     checkNotNull(objectName);
-    return !LEGAL_IDENTIFIER_PATTERN.matcher(objectName).matches();
+    int length = objectName.length();
+    if (length == 0) {
+      return IdentifierCase.ILLEGAL;
+    }
+    @Var int flags = 0;
+    for (int i = 0; i < length; i++) {
+      char c = objectName.charAt(i);
+      int charFlags = c < IDENTIFIER_CHARS.length ? IDENTIFIER_CHARS[c] : 0;
+      if ((charFlags & (i == 0 ? IDENTIFIER_START : IDENTIFIER_PART)) == 0) {
+        return IdentifierCase.ILLEGAL;
+      }
+      flags |= charFlags;
+    }
+    return switch (flags & (UPPER_CASE_LETTER | LOWER_CASE_LETTER)) {
+      case UPPER_CASE_LETTER -> IdentifierCase.UPPER_CASE;
+      case LOWER_CASE_LETTER -> IdentifierCase.LOWER_CASE;
+      case UPPER_CASE_LETTER | LOWER_CASE_LETTER -> IdentifierCase.MIXED_CASE;
+      default -> IdentifierCase.CASELESS;
+    };
   }
 
   private Strings() {}
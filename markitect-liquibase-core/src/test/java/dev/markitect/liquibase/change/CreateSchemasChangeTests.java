@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.change;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.DatabaseConnectionBuilder;
+import dev.markitect.liquibase.statement.CreateSchemasStatement;
+import java.util.List;
+import liquibase.Scope;
+import liquibase.database.Database;
+import liquibase.database.core.H2Database;
+import liquibase.exception.DatabaseException;
+import liquibase.executor.Executor;
+import liquibase.executor.ExecutorService;
+import liquibase.sql.Sql;
+import liquibase.sqlgenerator.SqlGeneratorFactory;
+import liquibase.statement.core.RawSqlStatement;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junitpioneer.jupiter.json.JsonSource;
+
+class CreateSchemasChangeTests {
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                          | expected
+          liquibase.database.core.H2Database       | true
+          liquibase.database.core.HsqlDatabase     | true
+          liquibase.database.core.MSSQLDatabase    | true
+          liquibase.database.core.OracleDatabase   | false
+          liquibase.database.core.PostgresDatabase | true
+          """,
+      delimiter = '|')
+  void supports(Class<? extends Database> databaseClass, boolean expected) throws Exception {
+    // given
+    var change = new CreateSchemasChange();
+    try (var database = DatabaseBuilder.newBuilder(databaseClass).build()) {
+
+      // when
+      boolean supports = change.supports(database);
+
+      // then
+      assertThat(supports).isEqualTo(expected);
+    }
+  }
+
+  @ParameterizedTest
+  @JsonSource(
+      """
+      [
+        {
+          expectedErrorMessages: [
+            'schemaNames is required for createSchemas on h2'
+          ]
+        },
+        {
+          schemaNames: 'sch1, sch2',
+          expectedErrorMessages: []
+        },
+        {
+          schemaNamePattern: 'tenant_%03d',
+          startIndex: 1,
+          endIndex: 500,
+          expectedErrorMessages: []
+        },
+        {
+          schemaNamePattern: 'tenant_%03d',
+          startIndex: 1,
+          expectedErrorMessages: [
+            'schemaNamePattern requires a startIndex and an endIndex'
+          ]
+        },
+        {
+          startIndex: 1,
+          endIndex: 500,
+          expectedErrorMessages: [
+            'startIndex and endIndex require a schemaNamePattern'
+          ]
+        },
+        {
+          schemaNamePattern: 'tenant_%03d',
+          startIndex: 2,
+          endIndex: 1,
+          expectedErrorMessages: [
+            'startIndex must be less than or equal to endIndex'
+          ]
+        },
+        {
+          schemaNamePattern: 'tenant_%s_%s',
+          startIndex: 1,
+          endIndex: 2,
+          expectedErrorMessages: [
+            'schemaNamePattern is not a valid format for an integer index'
+          ]
+        }
+      ]
+      """)
+  void validate(
+      @Nullable String schemaNames,
+      @Nullable String schemaNamePattern,
+      @Nullable Integer startIndex,
+      @Nullable Integer endIndex,
+      List<String> expectedErrorMessages)
+      throws Exception {
+    // given
+    var change = new CreateSchemasChange();
+    change.setSchemaNames(schemaNames);
+    change.setSchemaNamePattern(schemaNamePattern);
+    change.setStartIndex(startIndex);
+    change.setEndIndex(endIndex);
+    try (var database = DatabaseBuilder.newBuilder(H2Database.class).build()) {
+
+      // when
+      var errors = change.validate(database);
+
+      // then
+      assertThat(errors.getErrorMessages())
+          .containsExactlyInAnyOrderElementsOf(expectedErrorMessages);
+      assertThat(errors.hasErrors()).isEqualTo(!expectedErrorMessages.isEmpty());
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # catalogName | schemaNames | schemaNamePattern | startIndex | endIndex | ifNotExists
+                        | sch1, sch2  |                   |            |          |
+          cat1          |             | tenant_%03d       | 1          | 500      | true
+          """,
+      delimiter = '|')
+  void createInverses(
+      @Nullable String catalogName,
+      @Nullable String schemaNames,
+      @Nullable String schemaNamePattern,
+      @Nullable Integer startIndex,
+      @Nullable Integer endIndex,
+      @Nullable Boolean ifNotExists) {
+    // given
+    var change = new CreateSchemasChange();
+    change.setCatalogName(catalogName);
+    change.setSchemaNames(schemaNames);
+    change.setSchemaNamePattern(schemaNamePattern);
+    change.setStartIndex(startIndex);
+    change.setEndIndex(endIndex);
+    change.setIfNotExists(ifNotExists);
+    var inverse = new DropSchemasChange();
+    inverse.setCatalogName(catalogName);
+    inverse.setSchemaNames(schemaNames);
+    inverse.setSchemaNamePattern(schemaNamePattern);
+    inverse.setStartIndex(startIndex);
+    inverse.setEndIndex(endIndex);
+    inverse.setIfExists(ifNotExists);
+
+    // when
+    var inverses = change.createInverses();
+
+    // then
+    assertThat(inverses).usingRecursiveFieldByFieldElementComparator().containsExactly(inverse);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # catalogName | schemaNames | expected
+                        | sch1, sch2  | 2 schemas created
+          cat1          | sch1, sch2  | 2 schemas in cat1 created
+          """,
+      delimiter = '|')
+  void getConfirmationMessage(@Nullable String catalogName, String schemaNames, String expected) {
+    // given
+    var change = new CreateSchemasChange();
+    change.setCatalogName(catalogName);
+    change.setSchemaNames(schemaNames);
+
+    // when
+    String message = change.getConfirmationMessage();
+
+    // then
+    assertThat(message).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @JsonSource(
+      """
+      [
+        {
+          schemaNames: 'sch1, sch2,,sch1',
+          expectedSchemaNames: ['sch1', 'sch2']
+        },
+        {
+          schemaNamePattern: 'tenant_%03d',
+          startIndex: 9,
+          endIndex: 11,
+          expectedSchemaNames: ['tenant_009', 'tenant_010', 'tenant_011']
+        },
+        {
+          schemaNames: 'sch1',
+          schemaNamePattern: 'tenant_%d',
+          startIndex: 1,
+          endIndex: 2,
+          expectedSchemaNames: ['sch1', 'tenant_1', 'tenant_2']
+        }
+      ]
+      """)
+  void generateStatements(
+      @Nullable String schemaNames,
+      @Nullable String schemaNamePattern,
+      @Nullable Integer startIndex,
+      @Nullable Integer endIndex,
+      List<String> expectedSchemaNames)
+      throws Exception {
+    // given
+    var change = new CreateSchemasChange();
+    change.setSchemaNames(schemaNames);
+    change.setSchemaNamePattern(schemaNamePattern);
+    change.setStartIndex(startIndex);
+    change.setEndIndex(endIndex);
+    var statement = new CreateSchemasStatement();
+    statement.setSchemaNames(expectedSchemaNames);
+    try (var database = DatabaseBuilder.newBuilder(H2Database.class).build()) {
+      assertThat(change.validate(database).hasErrors()).isFalse();
+
+      // when
+      var statements = change.generateStatements(database);
+
+      // then
+      assertThat(statements)
+          .usingRecursiveFieldByFieldElementComparator()
+          .containsExactly(statement);
+    }
+  }
+
+  @ParameterizedTest
+  @JsonSource(
+      """
+      [
+        {
+          databaseClass: 'liquibase.database.core.H2Database',
+          expectedSql: 'CREATE SCHEMA sch1;\\nCREATE SCHEMA sch2'
+        },
+        {
+          databaseClass: 'liquibase.database.core.HsqlDatabase',
+          expectedSql: 'CREATE SCHEMA sch1;\\nCREATE SCHEMA sch2'
+        },
+        {
+          databaseClass: 'liquibase.database.core.MSSQLDatabase',
+          expectedSql: "EXEC(N'CREATE SCHEMA sch1');\\nEXEC(N'CREATE SCHEMA sch2')"
+        },
+        {
+          databaseClass: 'liquibase.database.core.PostgresDatabase',
+          expectedSql: 'CREATE SCHEMA sch1;\\nCREATE SCHEMA sch2'
+        }
+      ]
+      """)
+  void generateSql(Class<? extends Database> databaseClass, String expectedSql) throws Exception {
+    // given
+    var change = new CreateSchemasChange();
+    change.setSchemaNames("sch1, sch2");
+    try (var database = DatabaseBuilder.newBuilder(databaseClass).build()) {
+      assertThat(change.supports(database)).isTrue();
+      assertThat(change.validate(database).hasErrors()).isFalse();
+
+      // when
+      var sql = SqlGeneratorFactory.getInstance().generateSql(change, database);
+
+      // then
+      assertThat(sql).extracting(Sql::toSql).containsExactly(expectedSql);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                                               | url                                         | driver
+          dev.markitect.liquibase.database.h2.MarkitectH2Database       | jdbc:h2:mem:createSchemas                     | org.h2.Driver
+          dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase | jdbc:hsqldb:mem:createSchemas;shutdown=true | org.hsqldb.jdbc.JDBCDriver
+          """,
+      delimiter = '|')
+  void generateStatements_ifNotExists(
+      Class<? extends Database> databaseClass, String url, String driver) throws Exception {
+    // given
+    var change = new CreateSchemasChange();
+    change.setSchemaNames("sch1, Sch2, sch3");
+    change.setIfNotExists(true);
+    try (var database =
+        DatabaseBuilder.newBuilder(databaseClass)
+            .databaseConnection(DatabaseConnectionBuilder.newBuilder().url(url).driver(driver))
+            .build()) {
+      var executor = getExecutor(database);
+      executor.execute(new RawSqlStatement("CREATE SCHEMA SCH1"));
+      executor.execute(new RawSqlStatement("CREATE SCHEMA \"Sch2\""));
+
+      // when
+      for (var statement : change.generateStatements(database)) {
+        executor.execute(statement);
+      }
+
+      // then
+      assertThat(querySchemaNames(executor)).isEqualTo("SCH1;SCH2;SCH3;Sch2");
+    }
+  }
+
+  private static String querySchemaNames(Executor executor) throws DatabaseException {
+    return executor
+        .queryForList(
+            new RawSqlStatement(
+                "SELECT schema_name FROM information_schema.schemata"
+                    + " WHERE UPPER(schema_name) LIKE 'SCH%'"),
+            String.class)
+        .stream()
+        .sorted()
+        .collect(joining(";"));
+  }
+
+  private static Executor getExecutor(Database database) {
+    return Scope.getCurrentScope()
+        .getSingleton(ExecutorService.class)
+        .getExecutor("jdbc", database);
+  }
+}
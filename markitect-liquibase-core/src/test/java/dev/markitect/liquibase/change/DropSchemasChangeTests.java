@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.change;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.DatabaseConnectionBuilder;
+import liquibase.Scope;
+import liquibase.database.Database;
+import liquibase.exception.DatabaseException;
+import liquibase.executor.Executor;
+import liquibase.executor.ExecutorService;
+import liquibase.sql.Sql;
+import liquibase.sqlgenerator.SqlGeneratorFactory;
+import liquibase.statement.core.RawSqlStatement;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junitpioneer.jupiter.json.JsonSource;
+
+class DropSchemasChangeTests {
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                          | expected
+          liquibase.database.core.H2Database       | true
+          liquibase.database.core.HsqlDatabase     | true
+          liquibase.database.core.MSSQLDatabase    | true
+          liquibase.database.core.OracleDatabase   | false
+          liquibase.database.core.PostgresDatabase | true
+          """,
+      delimiter = '|')
+  void supports(Class<? extends Database> databaseClass, boolean expected) throws Exception {
+    // given
+    var change = new DropSchemasChange();
+    try (var database = DatabaseBuilder.newBuilder(databaseClass).build()) {
+
+      // when
+      boolean supports = change.supports(database);
+
+      // then
+      assertThat(supports).isEqualTo(expected);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # catalogName | schemaNamePattern | startIndex | endIndex | expected
+                        | tenant_%03d       | 1          | 500      | 500 schemas dropped
+          cat1          | tenant_%03d       | 1          | 500      | 500 schemas in cat1 dropped
+          """,
+      delimiter = '|')
+  void getConfirmationMessage(
+      @Nullable String catalogName,
+      String schemaNamePattern,
+      int startIndex,
+      int endIndex,
+      String expected) {
+    // given
+    var change = new DropSchemasChange();
+    change.setCatalogName(catalogName);
+    change.setSchemaNamePattern(schemaNamePattern);
+    change.setStartIndex(startIndex);
+    change.setEndIndex(endIndex);
+
+    // when
+    String message = change.getConfirmationMessage();
+
+    // then
+    assertThat(message).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @JsonSource(
+      """
+      [
+        {
+          databaseClass: 'liquibase.database.core.H2Database',
+          expectedSql: 'DROP SCHEMA tenant_1;\\nDROP SCHEMA tenant_2'
+        },
+        {
+          databaseClass: 'liquibase.database.core.HsqlDatabase',
+          expectedSql: 'DROP SCHEMA tenant_1;\\nDROP SCHEMA tenant_2'
+        },
+        {
+          databaseClass: 'liquibase.database.core.MSSQLDatabase',
+          expectedSql: "EXEC(N'DROP SCHEMA tenant_1');\\nEXEC(N'DROP SCHEMA tenant_2')"
+        },
+        {
+          databaseClass: 'liquibase.database.core.PostgresDatabase',
+          expectedSql: 'DROP SCHEMA tenant_1;\\nDROP SCHEMA tenant_2'
+        }
+      ]
+      """)
+  void generateSql(Class<? extends Database> databaseClass, String expectedSql) throws Exception {
+    // given
+    var change = new DropSchemasChange();
+    change.setSchemaNamePattern("tenant_%d");
+    change.setStartIndex(1);
+    change.setEndIndex(2);
+    try (var database = DatabaseBuilder.newBuilder(databaseClass).build()) {
+      assertThat(change.supports(database)).isTrue();
+      assertThat(change.validate(database).hasErrors()).isFalse();
+
+      // when
+      var sql = SqlGeneratorFactory.getInstance().generateSql(change, database);
+
+      // then
+      assertThat(sql).extracting(Sql::toSql).containsExactly(expectedSql);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                                               | url                                       | driver
+          dev.markitect.liquibase.database.h2.MarkitectH2Database       | jdbc:h2:mem:dropSchemas                   | org.h2.Driver
+          dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase | jdbc:hsqldb:mem:dropSchemas;shutdown=true | org.hsqldb.jdbc.JDBCDriver
+          """,
+      delimiter = '|')
+  void generateStatements_ifExists(
+      Class<? extends Database> databaseClass, String url, String driver) throws Exception {
+    // given
+    var change = new DropSchemasChange();
+    change.setSchemaNames("sch1, Sch2, sch3");
+    change.setIfExists(true);
+    try (var database =
+        DatabaseBuilder.newBuilder(databaseClass)
+            .databaseConnection(DatabaseConnectionBuilder.newBuilder().url(url).driver(driver))
+            .build()) {
+      var executor = getExecutor(database);
+      executor.execute(new RawSqlStatement("CREATE SCHEMA SCH1"));
+      executor.execute(new RawSqlStatement("CREATE SCHEMA \"Sch2\""));
+      executor.execute(new RawSqlStatement("CREATE SCHEMA SCH4"));
+
+      // when
+      for (var statement : change.generateStatements(database)) {
+        executor.execute(statement);
+      }
+
+      // then
+      assertThat(querySchemaNames(executor)).isEqualTo("SCH4;Sch2");
+    }
+  }
+
+  private static String querySchemaNames(Executor executor) throws DatabaseException {
+    return executor
+        .queryForList(
+            new RawSqlStatement(
+                "SELECT schema_name FROM information_schema.schemata"
+                    + " WHERE UPPER(schema_name) LIKE 'SCH%'"),
+            String.class)
+        .stream()
+        .sorted()
+        .collect(joining(";"));
+  }
+
+  private static Executor getExecutor(Database database) {
+    return Scope.getCurrentScope()
+        .getSingleton(ExecutorService.class)
+        .getExecutor("jdbc", database);
+  }
+}
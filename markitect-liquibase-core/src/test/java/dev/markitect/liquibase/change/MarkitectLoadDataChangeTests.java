@@ -85,4 +85,57 @@ class MarkitectLoadDataChangeTests {
       assertThat(actual).isEqualTo(expected);
     }
   }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # readBufferSize | expected
+                           | false
+          -1               | true
+          0                | true
+          8192             | false
+          """,
+      delimiter = '|')
+  void validate_readBufferSize(@Nullable Integer readBufferSize, boolean expected)
+      throws Exception {
+    // given
+    var change = new MarkitectLoadDataChange();
+    change.setReadBufferSize(readBufferSize);
+    try (var database = DatabaseBuilder.newBuilder(H2Database.class).build()) {
+
+      // when
+      var errors = change.validate(database);
+
+      // then
+      assertThat(errors.getErrorMessages().contains("readBufferSize must be greater than 0"))
+          .isEqualTo(expected);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # parallelism | expected
+                        | false
+          0             | true
+          1             | false
+          4             | false
+          """,
+      delimiter = '|')
+  void validate_parallelism(@Nullable Integer parallelism, boolean expected) throws Exception {
+    // given
+    var change = new MarkitectLoadDataChange();
+    change.setParallelism(parallelism);
+    try (var database = DatabaseBuilder.newBuilder(H2Database.class).build()) {
+
+      // when
+      var errors = change.validate(database);
+
+      // then
+      assertThat(errors.getErrorMessages().contains("parallelism must be greater than 0"))
+          .isEqualTo(expected);
+    }
+  }
 }
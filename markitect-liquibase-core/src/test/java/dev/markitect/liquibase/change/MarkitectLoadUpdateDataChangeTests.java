@@ -16,13 +16,31 @@
 
 package dev.markitect.liquibase.change;
 
+import static java.util.stream.Collectors.joining;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.DatabaseConnectionBuilder;
+import dev.markitect.liquibase.database.h2.MarkitectH2Database;
+import dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement;
+import java.io.StringWriter;
+import java.util.Arrays;
+import liquibase.Scope;
 import liquibase.change.core.LoadDataChange.LOAD_DATA_TYPE;
 import liquibase.change.core.LoadDataColumnConfig;
+import liquibase.database.Database;
 import liquibase.database.core.H2Database;
+import liquibase.exception.DatabaseException;
+import liquibase.executor.Executor;
+import liquibase.executor.ExecutorService;
+import liquibase.executor.LoggingExecutor;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import liquibase.statement.SqlStatement;
+import liquibase.statement.core.RawSqlStatement;
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -59,4 +77,280 @@ class MarkitectLoadUpdateDataChangeTests {
       assertThat(actual).isEqualTo(expected);
     }
   }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # batchSize | expected
+                      | false
+          -1          | true
+          0           | true
+          1           | false
+          1000        | false
+          """,
+      delimiter = '|')
+  void validate_batchSize(@Nullable Integer batchSize, boolean expected) throws Exception {
+    // given
+    var change = new MarkitectLoadUpdateDataChange();
+    change.setBatchSize(batchSize);
+    try (var database = DatabaseBuilder.newBuilder(H2Database.class).build()) {
+
+      // when
+      var errors = change.validate(database);
+
+      // then
+      assertThat(errors.getErrorMessages().contains("batchSize must be greater than 0"))
+          .isEqualTo(expected);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # strategy | expected
+                     | false
+          row        | false
+          staging    | false
+          STAGING    | false
+          bulk       | true
+          """,
+      delimiter = '|')
+  void validate_strategy(@Nullable String strategy, boolean expected) throws Exception {
+    // given
+    var change = new MarkitectLoadUpdateDataChange();
+    change.setStrategy(strategy);
+    try (var database = DatabaseBuilder.newBuilder(H2Database.class).build()) {
+
+      // when
+      var errors = change.validate(database);
+
+      // then
+      assertThat(errors.getErrorMessages().contains("strategy must be one of 'row' or 'staging'"))
+          .isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void getBatchSize() {
+    // given
+    var change = new MarkitectLoadUpdateDataChange();
+
+    // when
+    change.setBatchSize(100);
+
+    // then
+    assertThat(change.getBatchSize()).isEqualTo(100);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # file                            | rowsPerStatement | expectedStatementRows | expectedRows
+          loadUpdateData.csv                | 2                | 2;2;1                 | 1=a;2=b;3=c;4=d;5=e
+          loadUpdateData.csv                | 5                | 5                     | 1=a;2=b;3=c;4=d;5=e
+          loadUpdateData.csv                | 10               | 5                     | 1=a;2=b;3=c;4=d;5=e
+          loadUpdateData-duplicateKeys.csv  | 2                | 2;2                   | 1=c;2=b;3=d
+          loadUpdateData-duplicateKeys.csv  | 4                | 2;2                   | 1=c;2=b;3=d
+          loadUpdateData-duplicateKeys.csv  | 3                | 2;1;1                 | 1=c;2=b;3=d
+          """,
+      delimiter = '|')
+  void generateStatements_rowsPerStatement(
+      String file, int rowsPerStatement, String expectedStatementRows, String expectedRows)
+      throws Exception {
+    // given
+    var change = new MarkitectLoadUpdateDataChange();
+    change.setFile("dev/markitect/liquibase/change/" + file);
+    change.setTableName("tbl1");
+    change.setPrimaryKey("id");
+    change.setRowsPerStatement(rowsPerStatement);
+    change.addColumn(newColumn("id", LOAD_DATA_TYPE.NUMERIC));
+    change.addColumn(newColumn("descr", LOAD_DATA_TYPE.STRING));
+    try (var database = newHsqlDatabase("generateStatements_rowsPerStatement")) {
+      var executor = getExecutor(database);
+      executor.execute(
+          new RawSqlStatement("CREATE TABLE tbl1 (id INT PRIMARY KEY, descr VARCHAR(10))"));
+
+      // when
+      var statements = generateStatements(change, database);
+      for (var statement : statements) {
+        executor.execute(statement);
+      }
+
+      // then
+      assertThat(
+              Arrays.stream(statements)
+                  .map(InsertOrUpdateExecutablePreparedStatement.class::cast)
+                  .map(statement -> String.valueOf(statement.getRowColumns().size() / 2))
+                  .collect(joining(";")))
+          .isEqualTo(expectedStatementRows);
+      assertThat(queryRows(executor)).isEqualTo(expectedRows);
+    }
+  }
+
+  @Test
+  void generateStatements_batchSize_loggingExecutor() throws Exception {
+    // given
+    var change = new MarkitectLoadUpdateDataChange();
+    change.setFile("dev/markitect/liquibase/change/loadUpdateData.csv");
+    change.setTableName("tbl1");
+    change.setPrimaryKey("id");
+    change.setBatchSize(2);
+    change.addColumn(newColumn("id", LOAD_DATA_TYPE.NUMERIC));
+    change.addColumn(newColumn("descr", LOAD_DATA_TYPE.STRING));
+    try (var database = newHsqlDatabase("generateStatements_batchSize_loggingExecutor")) {
+      var executorService = Scope.getCurrentScope().getSingleton(ExecutorService.class);
+      executorService.setExecutor(
+          "jdbc",
+          database,
+          new LoggingExecutor(getExecutor(database), new StringWriter(), database));
+      try {
+
+        // when
+        var statements = generateStatements(change, database);
+
+        // then
+        assertThat(statements)
+            .hasSize(5)
+            .allMatch(InsertOrUpdateExecutablePreparedStatement.class::isInstance);
+      } finally {
+        executorService.clearExecutor("jdbc", database);
+      }
+    }
+  }
+
+  @Test
+  void generateStatements_staging() throws Exception {
+    // given
+    var change = newStagingChange("loadUpdateData.csv");
+    try (var database = newH2Database("generateStatements_staging")) {
+      var executor = getExecutor(database);
+      executor.execute(
+          new RawSqlStatement("CREATE TABLE tbl1 (id INT PRIMARY KEY, descr VARCHAR(10))"));
+
+      // when
+      for (var statement : generateStatements(change, database)) {
+        executor.execute(statement);
+      }
+
+      // then
+      assertThat(queryRows(executor)).isEqualTo("1=a;2=b;3=c;4=d;5=e");
+    }
+  }
+
+  @Test
+  void generateStatements_staging_existingStagingTable() throws Exception {
+    // given
+    var change = newStagingChange("loadUpdateData.csv");
+    try (var database = newH2Database("generateStatements_staging_existingStagingTable")) {
+      var executor = getExecutor(database);
+      executor.execute(
+          new RawSqlStatement("CREATE TABLE tbl1 (id INT PRIMARY KEY, descr VARCHAR(10))"));
+      executor.execute(
+          new RawSqlStatement("CREATE TABLE tbl1_staging (id INT, descr VARCHAR(10))"));
+      executor.execute(new RawSqlStatement("INSERT INTO tbl1_staging VALUES (9, 'z')"));
+      var statements = generateStatements(change, database);
+
+      // when
+      var thrown =
+          catchThrowable(
+              () -> {
+                for (var statement : statements) {
+                  executor.execute(statement);
+                }
+              });
+
+      // then
+      assertThat(thrown).isInstanceOf(DatabaseException.class);
+      assertThat(queryRows(executor)).isEmpty();
+      assertThat(executor.queryForList(new RawSqlStatement("SELECT id, descr FROM tbl1_staging")))
+          .hasSize(1);
+    }
+  }
+
+  @Test
+  void generateStatements_staging_duplicateKeys() throws Exception {
+    // given
+    var change = newStagingChange("loadUpdateData-duplicateKeys.csv");
+    try (var database = newH2Database("generateStatements_staging_duplicateKeys")) {
+      var executor = getExecutor(database);
+      executor.execute(
+          new RawSqlStatement("CREATE TABLE tbl1 (id INT PRIMARY KEY, descr VARCHAR(10))"));
+      var statements = generateStatements(change, database);
+
+      // when
+      var thrown =
+          catchThrowable(
+              () -> {
+                for (var statement : statements) {
+                  executor.execute(statement);
+                }
+              });
+
+      // then
+      assertThat(thrown)
+          .isInstanceOf(DatabaseException.class)
+          .hasMessageContaining("has more than one row for key id=1");
+      assertThat(queryRows(executor)).isEmpty();
+    }
+  }
+
+  private static MarkitectLoadUpdateDataChange newStagingChange(String file) {
+    var change = new MarkitectLoadUpdateDataChange();
+    change.setFile("dev/markitect/liquibase/change/" + file);
+    change.setTableName("tbl1");
+    change.setPrimaryKey("id");
+    change.setStrategy("staging");
+    change.addColumn(newColumn("id", LOAD_DATA_TYPE.NUMERIC));
+    change.addColumn(newColumn("descr", LOAD_DATA_TYPE.STRING));
+    return change;
+  }
+
+  private static SqlStatement[] generateStatements(
+      MarkitectLoadUpdateDataChange change, Database database) throws Exception {
+    return Scope.child(
+        Scope.Attr.resourceAccessor.name(),
+        new ClassLoaderResourceAccessor(),
+        () -> change.generateStatements(database));
+  }
+
+  private static String queryRows(Executor executor) throws DatabaseException {
+    return executor.queryForList(new RawSqlStatement("SELECT id, descr FROM tbl1 ORDER BY id"))
+        .stream()
+        .map(row -> row.get("ID") + "=" + row.get("DESCR"))
+        .collect(joining(";"));
+  }
+
+  private static LoadDataColumnConfig newColumn(String name, LOAD_DATA_TYPE type) {
+    var column = new LoadDataColumnConfig();
+    column.setName(name);
+    column.setType(type);
+    return column;
+  }
+
+  private static Database newHsqlDatabase(String name) {
+    return DatabaseBuilder.newBuilder(MarkitectHsqlDatabase.class)
+        .databaseConnection(
+            DatabaseConnectionBuilder.newBuilder()
+                .url("jdbc:hsqldb:mem:" + name + ";shutdown=true")
+                .driver("org.hsqldb.jdbc.JDBCDriver"))
+        .build();
+  }
+
+  private static Database newH2Database(String name) {
+    return DatabaseBuilder.newBuilder(MarkitectH2Database.class)
+        .databaseConnection(
+            DatabaseConnectionBuilder.newBuilder()
+                .url("jdbc:h2:mem:" + name)
+                .driver("org.h2.Driver"))
+        .build();
+  }
+
+  private static Executor getExecutor(Database database) {
+    return Scope.getCurrentScope()
+        .getSingleton(ExecutorService.class)
+        .getExecutor("jdbc", database);
+  }
 }
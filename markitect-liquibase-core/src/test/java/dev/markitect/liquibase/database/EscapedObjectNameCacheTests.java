@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.h2.MarkitectH2Database;
+import java.util.Map;
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+import liquibase.database.ObjectQuotingStrategy;
+import liquibase.structure.core.Schema;
+import liquibase.structure.core.Table;
+import org.junit.jupiter.api.Test;
+
+class EscapedObjectNameCacheTests {
+  @Test
+  void escapeObjectName_returnsCachedName() throws Exception {
+    // given
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectH2Database.class).offlineConnection().build()) {
+      var first = database.escapeObjectName("Tbl 1", Table.class);
+
+      // when
+      var second = database.escapeObjectName("Tbl 1", Table.class);
+
+      // then
+      assertThat(first).isEqualTo("\"TBL 1\"");
+      assertThat(second).isSameAs(first);
+    }
+  }
+
+  @Test
+  void escapeObjectName_missesOnQuotingStrategyChange() throws Exception {
+    // given
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectH2Database.class).offlineConnection().build()) {
+      var unquoted = database.escapeObjectName("Tbl1", Table.class);
+      database.setObjectQuotingStrategy(ObjectQuotingStrategy.QUOTE_ALL_OBJECTS);
+
+      // when
+      var quoted = database.escapeObjectName("Tbl1", Table.class);
+
+      // then
+      assertThat(unquoted).isEqualTo("Tbl1");
+      assertThat(quoted).isEqualTo("\"Tbl1\"");
+    }
+  }
+
+  @Test
+  void escapeObjectName_missesOnPreserveSchemaCaseChange() throws Exception {
+    // given
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectH2Database.class).offlineConnection().build()) {
+      var unquoted = database.escapeObjectName("Sch1", Schema.class);
+
+      // when
+      String quoted =
+          Scope.child(
+              Map.<String, Object>of(GlobalConfiguration.PRESERVE_SCHEMA_CASE.getKey(), true),
+              () -> database.escapeObjectName("Sch1", Schema.class));
+
+      // then
+      assertThat(unquoted).isEqualTo("Sch1");
+      assertThat(quoted).isEqualTo("\"Sch1\"");
+    }
+  }
+}
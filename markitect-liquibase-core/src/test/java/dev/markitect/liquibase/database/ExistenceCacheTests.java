@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase;
+import java.util.Map;
+import liquibase.Scope;
+import org.junit.jupiter.api.Test;
+
+class ExistenceCacheTests {
+  private static final Map<String, Object> ENABLED =
+      Map.of(ExistenceCache.ENABLED_SCOPE_KEY, true);
+
+  @Test
+  void getIfPresent_returnsPutValue() throws Exception {
+    // given
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class).offlineConnection().build()) {
+      var key = ExistenceCache.schemaKey("lbcat", "lbschem2");
+
+      // when
+      var actual =
+          Scope.child(
+              ENABLED,
+              () -> {
+                assertThat(ExistenceCache.getIfPresent(database, key)).isNull();
+                ExistenceCache.put(database, key, true);
+                return ExistenceCache.getIfPresent(database, key);
+              });
+
+      // then
+      assertThat(actual).isTrue();
+      assertThat(
+              Scope.child(
+                  ENABLED,
+                  () -> ExistenceCache.getIfPresent(database, ExistenceCache.catalogKey("lbcat"))))
+          .isNull();
+    }
+  }
+
+  @Test
+  void invalidate_clearsConnectionCache() throws Exception {
+    // given
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class).offlineConnection().build()) {
+      var key = ExistenceCache.catalogKey("lbcat");
+      Scope.child(ENABLED, () -> ExistenceCache.put(database, key, false));
+
+      // when
+      ExistenceCache.invalidate(database);
+
+      // then
+      assertThat(Scope.child(ENABLED, () -> ExistenceCache.getIfPresent(database, key))).isNull();
+    }
+  }
+
+  @Test
+  void put_isIgnoredWhenDisabled() throws Exception {
+    // given
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class).offlineConnection().build()) {
+      var key = ExistenceCache.catalogKey("lbcat");
+
+      // when
+      Scope.child(
+          Map.<String, Object>of(ExistenceCache.ENABLED_SCOPE_KEY, false),
+          () -> ExistenceCache.put(database, key, true));
+
+      // then
+      assertThat(Scope.child(ENABLED, () -> ExistenceCache.getIfPresent(database, key))).isNull();
+    }
+  }
+
+  @Test
+  void put_isIgnoredByDefault() throws Exception {
+    // given
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class).offlineConnection().build()) {
+      var key = ExistenceCache.catalogKey("lbcat");
+
+      // when
+      ExistenceCache.put(database, key, true);
+
+      // then
+      assertThat(Scope.child(ENABLED, () -> ExistenceCache.getIfPresent(database, key))).isNull();
+    }
+  }
+}
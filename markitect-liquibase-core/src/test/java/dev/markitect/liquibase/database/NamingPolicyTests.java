@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import liquibase.GlobalConfiguration;
+import liquibase.Scope;
+import org.junit.jupiter.api.Test;
+
+class NamingPolicyTests {
+  @Test
+  void current_returnsSnapshotPerScope() {
+    // when
+    var first = NamingPolicy.current();
+    var second = NamingPolicy.current();
+
+    // then
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void current_refreshesInChildScope() throws Exception {
+    // given
+    var parent = NamingPolicy.current();
+
+    // when
+    NamingPolicy child =
+        Scope.child(
+            Map.<String, Object>of(
+                GlobalConfiguration.PRESERVE_SCHEMA_CASE.getKey(), true,
+                GlobalConfiguration.INCLUDE_CATALOG_IN_SPECIFICATION.getKey(), true),
+            NamingPolicy::current);
+
+    // then
+    assertThat(parent.isPreserveSchemaCase()).isFalse();
+    assertThat(parent.isIncludeCatalogInSpecification()).isFalse();
+    assertThat(child.isPreserveSchemaCase()).isTrue();
+    assertThat(child.isIncludeCatalogInSpecification()).isTrue();
+    assertThat(NamingPolicy.current()).isSameAs(parent);
+  }
+}
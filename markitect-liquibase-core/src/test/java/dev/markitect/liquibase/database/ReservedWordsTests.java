@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import liquibase.database.AbstractJdbcDatabase;
+import liquibase.database.Database;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ReservedWordsTests {
+  @Test
+  void contains_memoizesInheritedLookup() {
+    // given
+    var lookups = new AtomicInteger();
+    var reservedWords =
+        new ReservedWords(
+            word -> {
+              lookups.incrementAndGet();
+              return "SELECT".equals(word);
+            });
+
+    // when
+    boolean first = reservedWords.contains("SELECT");
+    boolean second = reservedWords.contains("SELECT");
+    boolean other = reservedWords.contains("select");
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    assertThat(other).isFalse();
+    assertThat(lookups).hasValue(2);
+  }
+
+  @Test
+  void contains_lookupAgainAfterInvalidate() {
+    // given
+    var lookups = new AtomicInteger();
+    var reservedWords =
+        new ReservedWords(
+            word -> {
+              lookups.incrementAndGet();
+              return "SELECT".equals(word);
+            });
+    reservedWords.contains("SELECT");
+
+    // when
+    reservedWords.invalidate();
+    boolean reserved = reservedWords.contains("SELECT");
+
+    // then
+    assertThat(reserved).isTrue();
+    assertThat(lookups).hasValue(2);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass
+          dev.markitect.liquibase.database.h2.MarkitectH2Database
+          dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase
+          dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase
+          dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase
+          """,
+      delimiter = '|')
+  void isReservedWord_matchesLiquibase(Class<? extends Database> databaseClass) throws Exception {
+    // given
+    var words = List.of("SELECT", "select", "Table", "user", "KEY", "value", "tbl1", "_1");
+    try (var database = DatabaseBuilder.newBuilder(databaseClass).offlineConnection().build();
+        var liquibaseDatabase =
+            (Database) databaseClass.getSuperclass().getConstructor().newInstance()) {
+      var expected = words.stream().map(liquibaseDatabase::isReservedWord).toList();
+
+      // when
+      var actual = words.stream().map(database::isReservedWord).toList();
+
+      // then
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass
+          dev.markitect.liquibase.database.h2.MarkitectH2Database
+          dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase
+          dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase
+          dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase
+          """,
+      delimiter = '|')
+  void isReservedWord_afterAddReservedWords(Class<? extends Database> databaseClass)
+      throws Exception {
+    // given
+    try (var database = DatabaseBuilder.newBuilder(databaseClass).offlineConnection().build();
+        var liquibaseDatabase =
+            (AbstractJdbcDatabase) databaseClass.getSuperclass().getConstructor().newInstance()) {
+      database.isReservedWord("TBL1");
+      liquibaseDatabase.addReservedWords(List.of("TBL1"));
+
+      // when
+      ((AbstractJdbcDatabase) database).addReservedWords(List.of("TBL1"));
+
+      // then
+      assertThat(database.isReservedWord("TBL1"))
+          .isEqualTo(liquibaseDatabase.isReservedWord("TBL1"));
+    }
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.precondition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.h2.MarkitectH2Database;
+import java.util.List;
+import java.util.Map;
+import liquibase.Scope;
+import liquibase.changelog.DatabaseChangeLog;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+class PreconditionMemoTests {
+  private static final Map<String, Object> ENABLED =
+      Map.of(PreconditionMemo.ENABLED_SCOPE_KEY, true);
+
+  @Test
+  void getIfPresent_returnsResultForSameRun() throws Exception {
+    // given
+    var changeLog = new DatabaseChangeLog();
+    var key = List.of("schemaExists", "Sch1");
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectH2Database.class).offlineConnection().build()) {
+
+      // when
+      @Nullable Boolean actual =
+          Scope.child(
+              ENABLED,
+              () -> {
+                PreconditionMemo.put(database, changeLog, key, true);
+                return PreconditionMemo.getIfPresent(database, changeLog, key);
+              });
+
+      // then
+      assertThat(actual).isTrue();
+    }
+  }
+
+  @Test
+  void getIfPresent_missesForOtherRun() throws Exception {
+    // given
+    var key = List.of("schemaExists", "Sch1");
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectH2Database.class).offlineConnection().build()) {
+
+      // when
+      @Nullable Boolean actual =
+          Scope.child(
+              ENABLED,
+              () -> {
+                PreconditionMemo.put(database, new DatabaseChangeLog(), key, true);
+                return PreconditionMemo.getIfPresent(database, new DatabaseChangeLog(), key);
+              });
+
+      // then
+      assertThat(actual).isNull();
+    }
+  }
+
+  @Test
+  void getIfPresent_returnsNullWhenDisabled() throws Exception {
+    // given
+    var changeLog = new DatabaseChangeLog();
+    var key = List.of("schemaExists", "Sch1");
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectH2Database.class).offlineConnection().build()) {
+      PreconditionMemo.put(database, changeLog, key, true);
+
+      // when
+      var actual = PreconditionMemo.getIfPresent(database, changeLog, key);
+
+      // then
+      assertThat(actual).isNull();
+    }
+  }
+
+  @Test
+  void invalidate_clearsResults() throws Exception {
+    // given
+    var changeLog = new DatabaseChangeLog();
+    var key = List.of("schemaExists", "Sch1");
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectH2Database.class).offlineConnection().build()) {
+
+      // when
+      @Nullable Boolean actual =
+          Scope.child(
+              ENABLED,
+              () -> {
+                PreconditionMemo.put(database, changeLog, key, true);
+                PreconditionMemo.invalidate(database);
+                return PreconditionMemo.getIfPresent(database, changeLog, key);
+              });
+
+      // then
+      assertThat(actual).isNull();
+    }
+  }
+}
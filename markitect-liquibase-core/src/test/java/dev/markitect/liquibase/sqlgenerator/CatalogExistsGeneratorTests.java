@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2025 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import dev.markitect.liquibase.database.DatabaseBuilder;
 import dev.markitect.liquibase.statement.CatalogExistsStatement;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.util.List;
+import liquibase.change.ColumnConfig;
 import liquibase.database.Database;
 import liquibase.sql.UnparsedSql;
 import liquibase.sqlgenerator.SqlGeneratorFactory;
@@ -67,6 +70,46 @@ class CatalogExistsGeneratorTests {
     }
   }
 
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                                                       | connectionCatalogName | connectionSchemaName | catalogName | expectedSql                                                           | expectedValue
+          dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase         | Cat1                  | dbo                  | Cat2        | SELECT CAST(CASE WHEN DB_ID(?) IS NOT NULL THEN 1 ELSE 0 END AS bit)  | Cat2
+          dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase | Cat1                  | PUBLIC               | Cat2        | SELECT EXISTS(SELECT 1 FROM pg_catalog.pg_database WHERE datname = ?) | cat2
+          """,
+      delimiter = '|')
+  void generateParameterizedSql(
+      Class<? extends Database> databaseClass,
+      @Nullable String connectionCatalogName,
+      @Nullable String connectionSchemaName,
+      String catalogName,
+      String expectedSql,
+      String expectedValue)
+      throws Exception {
+    // given
+    var statement = new CatalogExistsStatement();
+    statement.setCatalogName(catalogName);
+    statement.setParameterized(true);
+    try (var database =
+        DatabaseBuilder.newBuilder(databaseClass)
+            .offlineConnection(
+                ocb -> ocb.catalog(connectionCatalogName).schema(connectionSchemaName))
+            .build()) {
+
+      // when
+      var sql = SqlGeneratorFactory.getInstance().generateSql(statement, database);
+
+      // then
+      assertThat(sql)
+          .usingRecursiveFieldByFieldElementComparator()
+          .containsExactly(
+              new PreparedSql(
+                  expectedSql,
+                  List.of(new ColumnConfig().setName("catalogName").setValue(expectedValue))));
+    }
+  }
+
   @ParameterizedTest
   @CsvSource(
       textBlock =
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.h2.MarkitectH2Database;
+import dev.markitect.liquibase.statement.CreateStagingTableStatement;
+import java.util.List;
+import liquibase.database.Database;
+import liquibase.sql.Sql;
+import liquibase.sqlgenerator.SqlGeneratorFactory;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class CreateStagingTableGeneratorTests {
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                                                       | expectedCreateSql
+          dev.markitect.liquibase.database.h2.MarkitectH2Database               | CREATE TABLE tbl1_staging AS (SELECT id, descr FROM tbl1) WITH NO DATA
+          dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase         | CREATE TABLE tbl1_staging AS (SELECT id, descr FROM tbl1) WITH NO DATA
+          dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase         | SELECT id, descr INTO tbl1_staging FROM tbl1 WHERE 1 = 0 UNION ALL SELECT id, descr FROM tbl1 WHERE 1 = 0
+          dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase | CREATE TABLE tbl1_staging AS (SELECT id, descr FROM tbl1) WITH NO DATA
+          """,
+      delimiter = '|')
+  void generateSql(Class<? extends Database> databaseClass, String expectedCreateSql)
+      throws Exception {
+    // given
+    var statement =
+        new CreateStagingTableStatement(null, null, "tbl1", "tbl1_staging", List.of("id", "descr"));
+    try (var database =
+        DatabaseBuilder.newBuilder(databaseClass)
+            .offlineConnection()
+            .outputDefaultSchema(false)
+            .build()) {
+
+      // when
+      var errors = SqlGeneratorFactory.getInstance().validate(statement, database);
+      var sql = SqlGeneratorFactory.getInstance().generateSql(statement, database);
+
+      // then
+      assertThat(errors.hasErrors()).isFalse();
+      assertThat(sql).extracting(Sql::toSql).containsExactly(expectedCreateSql);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # tableName | stagingTableName | columnNames | expected
+          tbl1        | tbl1_staging     | id          | false
+                      | tbl1_staging     | id          | true
+          tbl1        |                  | id          | true
+          tbl1        | tbl1_staging     |             | true
+          """,
+      delimiter = '|')
+  void validate(
+      @Nullable String tableName,
+      @Nullable String stagingTableName,
+      @Nullable String columnNames,
+      boolean expected)
+      throws Exception {
+    // given
+    var statement =
+        new CreateStagingTableStatement(
+            null,
+            null,
+            tableName,
+            stagingTableName,
+            columnNames == null ? List.of() : List.of(columnNames.split(",")));
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectH2Database.class)
+            .offlineConnection()
+            .build()) {
+
+      // when
+      var errors = SqlGeneratorFactory.getInstance().validate(statement, database);
+
+      // then
+      assertThat(errors.hasErrors()).isEqualTo(expected);
+    }
+  }
+}
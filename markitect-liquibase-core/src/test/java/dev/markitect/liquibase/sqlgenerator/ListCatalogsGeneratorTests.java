@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.statement.ListCatalogsStatement;
+import liquibase.database.Database;
+import liquibase.sql.UnparsedSql;
+import liquibase.sqlgenerator.SqlGeneratorFactory;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ListCatalogsGeneratorTests {
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                                                       | connectionCatalogName | connectionSchemaName | expectedSql
+          dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase         | Cat1                  | dbo                  | SELECT name FROM sys.databases
+          dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase | Cat1                  | PUBLIC               | SELECT datname FROM pg_catalog.pg_database
+          """,
+      delimiter = '|')
+  void generateSql(
+      Class<? extends Database> databaseClass,
+      @Nullable String connectionCatalogName,
+      @Nullable String connectionSchemaName,
+      String expectedSql)
+      throws Exception {
+    // given
+    var statement = new ListCatalogsStatement();
+    try (var database =
+        DatabaseBuilder.newBuilder(databaseClass)
+            .offlineConnection(
+                ocb -> ocb.catalog(connectionCatalogName).schema(connectionSchemaName))
+            .build()) {
+      assertThat(database.getDefaultCatalogName()).isEqualTo(connectionCatalogName);
+      assertThat(database.getDefaultSchemaName()).isEqualTo(connectionSchemaName);
+
+      // when
+      var errors = SqlGeneratorFactory.getInstance().validate(statement, database);
+      var sql = SqlGeneratorFactory.getInstance().generateSql(statement, database);
+
+      // then
+      assertThat(errors.hasErrors()).isFalse();
+      assertThat(sql)
+          .usingRecursiveFieldByFieldElementComparator()
+          .containsExactly(new UnparsedSql(expectedSql));
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                          | expected
+          liquibase.database.core.H2Database       | false
+          liquibase.database.core.HsqlDatabase     | false
+          liquibase.database.core.MSSQLDatabase    | true
+          liquibase.database.core.OracleDatabase   | false
+          liquibase.database.core.PostgresDatabase | true
+          """,
+      delimiter = '|')
+  void supports(Class<? extends Database> databaseClass, boolean expected) throws Exception {
+    // given
+    var statement = new ListCatalogsStatement();
+    var generator = new ListCatalogsGenerator();
+    try (var database = DatabaseBuilder.newBuilder(databaseClass).build()) {
+
+      // when
+      boolean actual = generator.supports(statement, database);
+
+      // then
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+}
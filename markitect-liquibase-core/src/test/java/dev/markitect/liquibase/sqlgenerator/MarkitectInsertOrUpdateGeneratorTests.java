@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import java.util.List;
+import liquibase.change.ColumnConfig;
+import liquibase.database.Database;
+import liquibase.statement.core.InsertOrUpdateStatement;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class MarkitectInsertOrUpdateGeneratorTests {
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                                                       | generatorClass                                                                 | expectedSql
+          dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase         | dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorHsql     | MERGE INTO tbl1 AS tgt USING (SELECT id, descr FROM tbl1 WHERE 1 = 0 UNION ALL VALUES (?, ?), (?, ?)) AS src (id, descr) ON tgt.id = src.id WHEN MATCHED THEN UPDATE SET descr = src.descr WHEN NOT MATCHED THEN INSERT (id, descr) VALUES (src.id, src.descr)
+          dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase | dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorPostgres | INSERT INTO tbl1 (id, descr) VALUES (?, ?), (?, ?) ON CONFLICT (id) DO UPDATE SET descr = EXCLUDED.descr
+          """,
+      delimiter = '|')
+  void prepareMultiRowSql(
+      Class<? extends Database> databaseClass,
+      Class<? extends MultiRowInsertOrUpdateGenerator> generatorClass,
+      String expectedSql)
+      throws Exception {
+    // given
+    var statement = new InsertOrUpdateStatement(null, null, "tbl1", "id", false);
+    var generator = generatorClass.getConstructor().newInstance();
+    var rows =
+        List.of(
+            List.of(
+                new ColumnConfig().setName("id").setValueNumeric(1),
+                new ColumnConfig().setName("descr").setValue("One")),
+            List.of(
+                new ColumnConfig().setName("id").setValueNumeric(2),
+                new ColumnConfig().setName("descr").setValue("Two")));
+    try (var database =
+        DatabaseBuilder.newBuilder(databaseClass)
+            .offlineConnection()
+            .outputDefaultSchema(false)
+            .build()) {
+
+      // when
+      var preparedSql = generator.prepareMultiRowSql(database, statement, rows);
+
+      // then
+      assertThat(preparedSql.toSql()).isEqualTo(expectedSql);
+      assertThat(preparedSql.getBindColumns())
+          .containsExactly(
+              rows.get(0).get(0), rows.get(0).get(1), rows.get(1).get(0), rows.get(1).get(1));
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # generatorClass                                                               | expected
+          dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorH2       | false
+          dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorHsql     | true
+          dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorMssql    | false
+          dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorPostgres | true
+          """,
+      delimiter = '|')
+  void multiRowInsertOrUpdate(
+      Class<? extends MarkitectInsertOrUpdateGenerator> generatorClass, boolean expected)
+      throws Exception {
+    // given
+    var generator = generatorClass.getConstructor().newInstance();
+
+    // when
+    boolean actual = generator instanceof MultiRowInsertOrUpdateGenerator;
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                                                       | generatorClass                                                                 | onlyUpdate | expectedSql
+          dev.markitect.liquibase.database.h2.MarkitectH2Database               | dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorH2       | false      | MERGE INTO tbl1 AS tgt USING tbl1_staging AS src ON tgt.id = src.id WHEN MATCHED THEN UPDATE SET descr = src.descr WHEN NOT MATCHED THEN INSERT (id, descr) VALUES (src.id, src.descr)
+          dev.markitect.liquibase.database.h2.MarkitectH2Database               | dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorH2       | true       | MERGE INTO tbl1 AS tgt USING tbl1_staging AS src ON tgt.id = src.id WHEN MATCHED THEN UPDATE SET descr = src.descr
+          dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase         | dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorHsql     | false      | MERGE INTO tbl1 AS tgt USING tbl1_staging AS src ON tgt.id = src.id WHEN MATCHED THEN UPDATE SET descr = src.descr WHEN NOT MATCHED THEN INSERT (id, descr) VALUES (src.id, src.descr)
+          dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase         | dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorMssql    | false      | MERGE INTO tbl1 AS tgt USING tbl1_staging AS src ON tgt.id = src.id WHEN MATCHED THEN UPDATE SET descr = src.descr WHEN NOT MATCHED THEN INSERT (id, descr) VALUES (src.id, src.descr);
+          dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase | dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorPostgres | false      | INSERT INTO tbl1 (id, descr) SELECT id, descr FROM tbl1_staging ON CONFLICT (id) DO UPDATE SET descr = EXCLUDED.descr
+          dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase | dev.markitect.liquibase.sqlgenerator.MarkitectInsertOrUpdateGeneratorPostgres | true       | UPDATE tbl1 AS tgt SET descr = src.descr FROM tbl1_staging AS src WHERE tgt.id = src.id
+          """,
+      delimiter = '|')
+  void prepareMergeFromSql(
+      Class<? extends Database> databaseClass,
+      Class<? extends MarkitectInsertOrUpdateGenerator> generatorClass,
+      boolean onlyUpdate,
+      String expectedSql)
+      throws Exception {
+    // given
+    var statement = new InsertOrUpdateStatement(null, null, "tbl1", "id", onlyUpdate);
+    var generator = generatorClass.getConstructor().newInstance();
+    var columns = List.of(new ColumnConfig().setName("id"), new ColumnConfig().setName("descr"));
+    try (var database =
+        DatabaseBuilder.newBuilder(databaseClass)
+            .offlineConnection()
+            .outputDefaultSchema(false)
+            .build()) {
+
+      // when
+      var sql = generator.prepareMergeFromSql(database, statement, "tbl1_staging", columns);
+
+      // then
+      assertThat(sql.toSql()).isEqualTo(expectedSql);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.sqlgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase;
+import java.util.List;
+import liquibase.change.ColumnConfig;
+import liquibase.database.ObjectQuotingStrategy;
+import liquibase.statement.core.InsertOrUpdateStatement;
+import org.junit.jupiter.api.Test;
+
+class PreparedSqlCacheTests {
+  @Test
+  void prepareSql_rebindsCachedTemplate() throws Exception {
+    // given
+    var statement = new InsertOrUpdateStatement(null, null, "tbl1", "id", false);
+    var generator = new MarkitectInsertOrUpdateGeneratorPostgres();
+    var firstRow =
+        List.of(
+            new ColumnConfig().setName("id").setValueNumeric(1),
+            new ColumnConfig().setName("descr").setValue("One"));
+    var secondRow =
+        List.of(
+            new ColumnConfig().setName("id").setValueNumeric(2),
+            new ColumnConfig().setName("descr").setValue("Two"));
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class)
+            .offlineConnection()
+            .outputDefaultSchema(false)
+            .build()) {
+
+      // when
+      var first = generator.prepareSql(database, statement, firstRow);
+      var second = generator.prepareSql(database, statement, secondRow);
+
+      // then
+      assertThat(second.toSql()).isSameAs(first.toSql());
+      assertThat(second.getBindColumns()).containsExactlyElementsOf(secondRow);
+    }
+  }
+
+  @Test
+  void prepareSql_missesOnQuotingStrategyChange() throws Exception {
+    // given
+    var statement = new InsertOrUpdateStatement(null, null, "tbl1", "id", false);
+    var generator = new MarkitectInsertOrUpdateGeneratorPostgres();
+    var columns =
+        List.of(
+            new ColumnConfig().setName("id").setValueNumeric(1),
+            new ColumnConfig().setName("descr").setValue("One"));
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class)
+            .offlineConnection()
+            .outputDefaultSchema(false)
+            .build()) {
+      var unquoted = generator.prepareSql(database, statement, columns);
+      database.setObjectQuotingStrategy(ObjectQuotingStrategy.QUOTE_ALL_OBJECTS);
+
+      // when
+      var quoted = generator.prepareSql(database, statement, columns);
+
+      // then
+      assertThat(unquoted.toSql()).startsWith("INSERT INTO tbl1 ");
+      assertThat(quoted.toSql()).startsWith("INSERT INTO \"tbl1\" ");
+    }
+  }
+
+  @Test
+  void prepareSql_missesOnDefaultSchemaChange() throws Exception {
+    // given
+    var statement = new InsertOrUpdateStatement(null, null, "tbl1", "id", false);
+    var generator = new MarkitectInsertOrUpdateGeneratorPostgres();
+    var columns =
+        List.of(
+            new ColumnConfig().setName("id").setValueNumeric(1),
+            new ColumnConfig().setName("descr").setValue("One"));
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class).offlineConnection().build()) {
+      var first = generator.prepareSql(database, statement, columns);
+      database.setDefaultSchemaName("sch1");
+
+      // when
+      var second = generator.prepareSql(database, statement, columns);
+
+      // then
+      assertThat(first.toSql()).doesNotContain("sch1.");
+      assertThat(second.toSql()).startsWith("INSERT INTO sch1.tbl1 ");
+    }
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2025 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,10 @@ package dev.markitect.liquibase.sqlgenerator;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
 import dev.markitect.liquibase.statement.SchemaExistsStatement;
+import java.util.List;
+import liquibase.change.ColumnConfig;
 import liquibase.database.Database;
 import liquibase.sql.UnparsedSql;
 import liquibase.sqlgenerator.SqlGeneratorFactory;
@@ -72,6 +75,50 @@ class SchemaExistsGeneratorTests {
     }
   }
 
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                                                       | connectionCatalogName | connectionSchemaName | catalogName | schemaName | expectedSql                                                                                                         | expectedValue
+          dev.markitect.liquibase.database.h2.MarkitectH2Database               | DEFAULT               | PUBLIC               |             | Sch1       | SELECT EXISTS(SELECT 1 FROM INFORMATION_SCHEMA.SCHEMATA WHERE SCHEMA_NAME = ?)                                      | SCH1
+          dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase         | PUBLIC                | PUBLIC               |             | Sch1       | SELECT EXISTS(SELECT 1 FROM INFORMATION_SCHEMA.SCHEMATA WHERE SCHEMA_NAME = ?) FROM INFORMATION_SCHEMA.SYSTEM_USERS | SCH1
+          dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase         | Cat1                  | dbo                  | Cat2        | Sch1       | SELECT CAST(CASE WHEN EXISTS (SELECT 1 FROM Cat2.sys.schemas WHERE name = ?) THEN 1 ELSE 0 END AS bit)              | Sch1
+          dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase | Cat1                  | PUBLIC               |             | Sch1       | SELECT EXISTS(SELECT 1 FROM pg_catalog.pg_namespace WHERE nspname = ?)                                              | sch1
+          """,
+      delimiter = '|')
+  void generateParameterizedSql(
+      Class<? extends Database> databaseClass,
+      @Nullable String connectionCatalogName,
+      @Nullable String connectionSchemaName,
+      @Nullable String catalogName,
+      String schemaName,
+      String expectedSql,
+      String expectedValue)
+      throws Exception {
+    // given
+    var statement = new SchemaExistsStatement();
+    statement.setCatalogName(catalogName);
+    statement.setSchemaName(schemaName);
+    statement.setParameterized(true);
+    try (var database =
+        DatabaseBuilder.newBuilder(databaseClass)
+            .offlineConnection(
+                ocb -> ocb.catalog(connectionCatalogName).schema(connectionSchemaName))
+            .build()) {
+
+      // when
+      var sql = SqlGeneratorFactory.getInstance().generateSql(statement, database);
+
+      // then
+      assertThat(sql)
+          .usingRecursiveFieldByFieldElementComparator()
+          .containsExactly(
+              new PreparedSql(
+                  expectedSql,
+                  List.of(new ColumnConfig().setName("schemaName").setValue(expectedValue))));
+    }
+  }
+
   @ParameterizedTest
   @CsvSource(
       textBlock =
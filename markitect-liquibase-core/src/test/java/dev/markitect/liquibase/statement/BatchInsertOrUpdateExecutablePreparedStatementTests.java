@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.DatabaseConnectionBuilder;
+import dev.markitect.liquibase.database.h2.MarkitectH2Database;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import liquibase.Scope;
+import liquibase.change.ColumnConfig;
+import liquibase.database.Database;
+import liquibase.exception.DatabaseException;
+import liquibase.executor.Executor;
+import liquibase.executor.ExecutorService;
+import liquibase.statement.core.RawSqlStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class BatchInsertOrUpdateExecutablePreparedStatementTests {
+  private static final String CREATE_TABLE_SQL =
+      "CREATE TABLE tbl1 (id INT PRIMARY KEY, descr VARCHAR(10))";
+
+  @Test
+  void test() throws Exception {
+    // given
+    var column = new ColumnConfig();
+    column.setName("id");
+    try (var database = DatabaseBuilder.newBuilder(MarkitectH2Database.class).build()) {
+
+      // when
+      var statement =
+          new BatchInsertOrUpdateExecutablePreparedStatement(
+              database,
+              null,
+              null,
+              "Tbl1",
+              null,
+              Scope.getCurrentScope().getResourceAccessor(),
+              new PreparedSql("", List.of(column)),
+              List.of(List.of(column), List.of(column)),
+              10);
+
+      // then
+      assertThat(statement.continueOnError()).isFalse();
+      assertThat(statement.getColumns()).containsExactly(column);
+      assertThat(statement.getRows()).hasSize(2);
+      assertThat(statement.getBatchSize()).isEqualTo(10);
+    }
+  }
+
+  @Test
+  void constructor_throwsIllegalArgumentException() throws Exception {
+    // given
+    try (var database = DatabaseBuilder.newBuilder(MarkitectH2Database.class).build()) {
+
+      // when
+      var thrown =
+          catchThrowable(
+              () ->
+                  new BatchInsertOrUpdateExecutablePreparedStatement(
+                      database,
+                      null,
+                      null,
+                      "Tbl1",
+                      null,
+                      Scope.getCurrentScope().getResourceAccessor(),
+                      new PreparedSql("", new ArrayList<>()),
+                      new ArrayList<>(),
+                      0));
+
+      // then
+      assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = '|',
+      textBlock =
+          """
+          # rowCount | batchSize
+          1          | 2
+          4          | 2
+          5          | 2
+          5          | 10
+          """)
+  void execute(int rowCount, int batchSize) throws Exception {
+    // given
+    try (var database = newH2Database("batchInsertExecute")) {
+      var executor = getExecutor(database);
+      executor.execute(new RawSqlStatement(CREATE_TABLE_SQL));
+      var statement = newStatement(database, newRows(rowCount, -1), batchSize);
+
+      // when
+      executor.execute(statement);
+
+      // then
+      assertThat(executor.queryForInt(new RawSqlStatement("SELECT COUNT(*) FROM tbl1")))
+          .isEqualTo(rowCount);
+    }
+  }
+
+  @Test
+  void execute_failingRow() throws Exception {
+    // given
+    try (var database = newH2Database("batchInsertFailingRow")) {
+      var executor = getExecutor(database);
+      executor.execute(new RawSqlStatement(CREATE_TABLE_SQL));
+      var statement = newStatement(database, newRows(5, 4), 2);
+
+      // when
+      var thrown = catchThrowable(() -> executor.execute(statement));
+
+      // then
+      assertThat(thrown)
+          .isInstanceOf(DatabaseException.class)
+          .hasStackTraceContaining("Batch 2 (rows 3-4) of tbl1 failed");
+    }
+  }
+
+  private static Database newH2Database(String name) {
+    return DatabaseBuilder.newBuilder(MarkitectH2Database.class)
+        .databaseConnection(
+            DatabaseConnectionBuilder.newBuilder()
+                .url("jdbc:h2:mem:" + name)
+                .driver("org.h2.Driver"))
+        .build();
+  }
+
+  private static Executor getExecutor(Database database) {
+    return Scope.getCurrentScope()
+        .getSingleton(ExecutorService.class)
+        .getExecutor("jdbc", database);
+  }
+
+  // Row failingRow carries a description too long for the column
+  private static List<List<ColumnConfig>> newRows(int rowCount, int failingRow) {
+    return IntStream.rangeClosed(1, rowCount)
+        .mapToObj(
+            row ->
+                List.of(
+                    new ColumnConfig().setName("id").setValueNumeric(row),
+                    new ColumnConfig()
+                        .setName("descr")
+                        .setValue(row == failingRow ? "description " + row : "d" + row)))
+        .toList();
+  }
+
+  private static BatchInsertOrUpdateExecutablePreparedStatement newStatement(
+      Database database, List<List<ColumnConfig>> rows, int batchSize) {
+    return new BatchInsertOrUpdateExecutablePreparedStatement(
+        database,
+        null,
+        null,
+        "tbl1",
+        null,
+        Scope.getCurrentScope().getResourceAccessor(),
+        new PreparedSql(
+            "INSERT INTO tbl1 (id, descr) VALUES (?, ?)",
+            List.of(new ColumnConfig().setName("id"), new ColumnConfig().setName("descr"))),
+        rows,
+        batchSize);
+  }
+}
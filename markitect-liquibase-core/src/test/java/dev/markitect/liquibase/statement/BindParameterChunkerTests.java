@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.util.List;
+import liquibase.change.ColumnConfig;
+import liquibase.database.Database;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class BindParameterChunkerTests {
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # databaseClass                                                       | bindParametersPerRow | expected
+          dev.markitect.liquibase.database.h2.MarkitectH2Database               | 0                    | 2147483647
+          dev.markitect.liquibase.database.h2.MarkitectH2Database               | 2                    | 16383
+          dev.markitect.liquibase.database.hsqldb.MarkitectHsqlDatabase         | 2                    | 16383
+          dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase         | 2                    | 1049
+          dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase         | 3000                 | 1
+          dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase | 2                    | 16383
+          liquibase.database.core.MSSQLDatabase                                 | 2                    | 16383
+          """,
+      delimiter = '|')
+  void getMaxRowsPerStatement(
+      Class<? extends Database> databaseClass, int bindParametersPerRow, int expected)
+      throws Exception {
+    // given
+    try (var database = DatabaseBuilder.newBuilder(databaseClass).build()) {
+
+      // when
+      int actual = BindParameterChunker.getMaxRowsPerStatement(database, bindParametersPerRow);
+
+      // then
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void chunk() throws Exception {
+    // given
+    var rowSql =
+        new PreparedSql(
+            "INSERT INTO tbl1 (id, descr) VALUES (?, ?)",
+            List.of(new ColumnConfig().setName("id"), new ColumnConfig().setName("descr")));
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class).offlineConnection().build()) {
+
+      // when
+      var chunks = BindParameterChunker.chunk(database, rowSql, 2, List.of(1, 2, 3, 4, 5));
+
+      // then
+      assertThat(chunks).containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+    }
+  }
+}
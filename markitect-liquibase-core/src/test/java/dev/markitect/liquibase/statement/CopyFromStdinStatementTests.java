@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CopyFromStdinStatementTests {
+  @Test
+  void getCopySql() throws Exception {
+    // given
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class)
+            .offlineConnection()
+            .outputDefaultSchema(false)
+            .build()) {
+      var statement =
+          new CopyFromStdinStatement(
+              database,
+              null,
+              null,
+              "tbl1",
+              List.of(
+                  new BulkLoadColumn(0, "id", "NUMERIC"), new BulkLoadColumn(1, "descr", "STRING")),
+              () -> {
+                throw new UnsupportedOperationException();
+              },
+              null);
+
+      // when
+      String sql = statement.getCopySql();
+
+      // then
+      assertThat(sql).isEqualTo("COPY tbl1 (id, descr) FROM STDIN (FORMAT csv)");
+      assertThat(CopyFromStdinStatement.isSupported(database)).isFalse();
+    }
+  }
+}
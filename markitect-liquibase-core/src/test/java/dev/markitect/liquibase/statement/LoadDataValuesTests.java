@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class LoadDataValuesTests {
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # type   | value               | expectedBulkLoadable | expectedText
+          STRING   | abc                 | true                 | abc
+          STRING   | ''                  | true                 | ''
+          STRING   | NULL                | true                 |
+          NUMERIC  | 42                  | true                 | 42
+          NUMERIC  | ''                  | true                 |
+          NUMERIC  | abc                 | false                |
+          BOOLEAN  | true                | true                 | true
+          DATE     | 2020-01-02          | true                 | 2020-01-02
+          DATE     | NOW()               | false                |
+          DATETIME | 2020-01-02T03:04:05 | true                 | 2020-01-02 03:04:05.0
+          """,
+      delimiter = '|')
+  void toText(
+      String type,
+      @Nullable String value,
+      boolean expectedBulkLoadable,
+      @Nullable String expectedText) {
+    // when
+    boolean bulkLoadable = LoadDataValues.isBulkLoadValue(type, value);
+
+    // then
+    assertThat(bulkLoadable).isEqualTo(expectedBulkLoadable);
+    if (bulkLoadable) {
+      assertThat(LoadDataValues.toText(type, value)).isEqualTo(expectedText);
+    }
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # line      | commentLineStartsWith | expected
+          a,b         |                       | true
+          '#a,b'      | '#'                   | false
+          '#a,b'      |                       | true
+          ''          |                       | false
+          """,
+      delimiter = '|')
+  void isDataLine(String line, @Nullable String commentLineStartsWith, boolean expected) {
+    // when
+    boolean actual = LoadDataValues.isDataLine(line.split(","), commentLineStartsWith);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.mssql.MarkitectMssqlDatabase;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SqlServerBulkCopyStatementTests {
+  @Test
+  void test() throws Exception {
+    // given
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectMssqlDatabase.class).offlineConnection().build()) {
+
+      // when
+      var statement =
+          new SqlServerBulkCopyStatement(
+              database,
+              null,
+              null,
+              "tbl1",
+              List.of(new BulkLoadColumn(0, "id", "NUMERIC")),
+              () -> {
+                throw new UnsupportedOperationException();
+              },
+              null,
+              true,
+              false,
+              1000);
+
+      // then
+      assertThat(statement.continueOnError()).isFalse();
+      assertThat(statement.isKeepIdentity()).isTrue();
+      assertThat(statement.isTableLock()).isFalse();
+      assertThat(statement.getBatchSize()).isEqualTo(1000);
+      assertThat(SqlServerBulkCopyStatement.isSupported(database)).isFalse();
+    }
+  }
+
+  @Test
+  void constructor_throwsIllegalArgumentException() throws Exception {
+    // given
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectMssqlDatabase.class).offlineConnection().build()) {
+
+      // when
+      var thrown =
+          catchThrowable(
+              () ->
+                  new SqlServerBulkCopyStatement(
+                      database,
+                      null,
+                      null,
+                      "tbl1",
+                      List.of(),
+                      () -> {
+                        throw new UnsupportedOperationException();
+                      },
+                      null,
+                      false,
+                      false,
+                      0));
+
+      // then
+      assertThat(thrown)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("batchSize must be greater than 0");
+    }
+  }
+}
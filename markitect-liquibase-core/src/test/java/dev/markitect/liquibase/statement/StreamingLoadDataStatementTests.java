@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import dev.markitect.liquibase.database.DatabaseBuilder;
+import dev.markitect.liquibase.database.DatabaseConnectionBuilder;
+import dev.markitect.liquibase.database.h2.MarkitectH2Database;
+import dev.markitect.liquibase.database.postgresql.MarkitectPostgresDatabase;
+import dev.markitect.liquibase.statement.InsertOrUpdateExecutablePreparedStatement.PreparedSql;
+import java.io.StringReader;
+import java.util.List;
+import liquibase.change.ColumnConfig;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.DatabaseException;
+import liquibase.statement.PreparedStatementFactory;
+import liquibase.util.csv.CSVReader;
+import org.junit.jupiter.api.Test;
+
+class StreamingLoadDataStatementTests {
+  private static final List<BulkLoadColumn> COLUMNS =
+      List.of(new BulkLoadColumn(0, "id", "NUMERIC"), new BulkLoadColumn(2, "descr", "STRING"));
+
+  @Test
+  void getBindColumns() throws Exception {
+    // given
+    var preparedSql =
+        new PreparedSql(
+            "INSERT INTO tbl1 (id, descr) VALUES (?, ?) ON CONFLICT (id) DO UPDATE SET descr = ?",
+            List.of(
+                new ColumnConfig().setName("id"),
+                new ColumnConfig().setName("descr"),
+                new ColumnConfig().setName("descr")));
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class).offlineConnection().build()) {
+
+      // when
+      var statement = newStatement(database, preparedSql, 100);
+
+      // then
+      assertThat(statement.getBindColumns())
+          .extracting(BulkLoadColumn::getIndex)
+          .containsExactly(0, 2, 2);
+    }
+  }
+
+  @Test
+  void constructor_unknownBindColumn() throws Exception {
+    // given
+    var preparedSql =
+        new PreparedSql(
+            "INSERT INTO tbl1 (code) VALUES (?)", List.of(new ColumnConfig().setName("code")));
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class).offlineConnection().build()) {
+
+      // when
+      var thrown = catchThrowable(() -> newStatement(database, preparedSql, 100));
+
+      // then
+      assertThat(thrown)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("No column for parameter code");
+    }
+  }
+
+  @Test
+  void constructor_invalidBatchSize() throws Exception {
+    // given
+    var preparedSql = new PreparedSql("INSERT INTO tbl1 (id) VALUES (?)", List.of());
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectPostgresDatabase.class).offlineConnection().build()) {
+
+      // when
+      var thrown = catchThrowable(() -> newStatement(database, preparedSql, 0));
+
+      // then
+      assertThat(thrown)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("batchSize must be greater than 0");
+    }
+  }
+
+  @Test
+  void execute_invalidValue() throws Exception {
+    // given
+    var preparedSql =
+        new PreparedSql(
+            "INSERT INTO tbl1 (id, descr) VALUES (?, ?)",
+            List.of(new ColumnConfig().setName("id"), new ColumnConfig().setName("descr")));
+    try (var database =
+        DatabaseBuilder.newBuilder(MarkitectH2Database.class)
+            .databaseConnection(
+                DatabaseConnectionBuilder.newBuilder()
+                    .url("jdbc:h2:mem:execute_invalidValue")
+                    .driver("org.h2.Driver"))
+            .build()) {
+      var connection = (JdbcConnection) database.getConnection();
+      try (var stmt = connection.createStatement()) {
+        stmt.execute("CREATE TABLE tbl1 (id INT, descr VARCHAR(10))");
+      }
+      var statement =
+          new StreamingLoadDataStatement(
+              database,
+              "tbl1",
+              preparedSql,
+              COLUMNS,
+              () ->
+                  new CSVReader(
+                      new StringReader(
+                          """
+                          id,name,descr
+                          1,a,"multi
+                          line"
+                          x,b,c
+                          """)),
+              null,
+              100);
+
+      // when
+      var thrown =
+          catchThrowable(() -> statement.execute(new PreparedStatementFactory(connection)));
+
+      // then
+      assertThat(thrown)
+          .isInstanceOf(DatabaseException.class)
+          .hasMessageContaining("Line 4 has a value for id that is not a valid NUMERIC");
+    }
+  }
+
+  private static StreamingLoadDataStatement newStatement(
+      MarkitectPostgresDatabase database, PreparedSql preparedSql, int batchSize) {
+    return new StreamingLoadDataStatement(
+        database,
+        "tbl1",
+        preparedSql,
+        COLUMNS,
+        () -> {
+          throw new UnsupportedOperationException();
+        },
+        null,
+        batchSize);
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.google.errorprone.annotations.Var;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PartitionInputStreamTests {
+  private static final String TEXT = "id,descr\n1,One\n22,Two\n333,Three\n\n4444,Four";
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 5, 8, 13, 64})
+  void read_coversEveryLineOnce(int partitionCount) throws Exception {
+    // given
+    byte[] bytes = TEXT.getBytes(UTF_8);
+    var partitions = new ArrayList<String>();
+
+    // when
+    for (int i = 0; i < partitionCount; i++) {
+      long start = (long) bytes.length * i / partitionCount;
+      long end = (long) bytes.length * (i + 1) / partitionCount;
+      try (var stream = new PartitionInputStream(new ByteArrayInputStream(bytes), start, end)) {
+        partitions.add(new String(stream.readAllBytes(), UTF_8));
+      }
+    }
+
+    // then
+    assertThat(String.join("", partitions)).isEqualTo(TEXT);
+    @Var int offset = 0;
+    for (var partition : partitions) {
+      assertThat(offset == 0 || TEXT.charAt(offset - 1) == '\n').isTrue();
+      offset += partition.length();
+    }
+  }
+
+  @Test
+  void constructor_invalidRange() {
+    // when
+    var thrown =
+        catchThrowable(() -> new PartitionInputStream(new ByteArrayInputStream(new byte[0]), 2, 1));
+
+    // then
+    assertThat(thrown)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("end must not be before start");
+  }
+}
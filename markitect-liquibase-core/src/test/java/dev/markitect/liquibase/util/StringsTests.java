@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -45,6 +45,31 @@ class StringsTests {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # objectName | expected
+          ''           | ILLEGAL
+          'abc_123'    | LOWER_CASE
+          'Abc_123'    | MIXED_CASE
+          'ABC_123'    | UPPER_CASE
+          '_123'       | CASELESS
+          '_'          | CASELESS
+          'abc 123'    | ILLEGAL
+          'abc-123'    | ILLEGAL
+          '123_abc'    | ILLEGAL
+          'abcé'       | ILLEGAL
+          """,
+      delimiter = '|')
+  void scanIdentifier(String objectName, IdentifierCase expected) {
+    // when
+    IdentifierCase actual = Strings.scanIdentifier(objectName);
+
+    // then
+    assertThat(actual).isEqualTo(expected);
+  }
+
   @Test
   @SuppressWarnings("NullAway")
   void isIllegalIdentifier_throwsNullPointerException() {
@@ -1,11 +1,13 @@
 plugins {
     id("buildlogic.java-conventions")
+    id("buildlogic.jmh-conventions")
     id("buildlogic.publishing-conventions")
 }
 
 dependencies {
     api(libs.org.liquibase.liquibase.core)
     compileOnly(libs.org.apache.logging.log4j.log4j.api)
+    compileOnly(libs.org.apache.logging.log4j.log4j.core)
     compileOnly(libs.org.projectlombok.lombok)
     compileOnly(libs.org.slf4j.slf4j.api)
     implementation(libs.com.google.guava.guava)
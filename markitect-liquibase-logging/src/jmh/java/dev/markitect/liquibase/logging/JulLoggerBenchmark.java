@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+public class JulLoggerBenchmark {
+  @Param({"EAGER", "LAZY", "NONE"})
+  public String sourceLocation = "EAGER";
+
+  @Param({"false", "true"})
+  public boolean handlerReadsSource;
+
+  @SuppressWarnings("NullAway.Init")
+  private Logger logger;
+
+  @SuppressWarnings("NullAway.Init")
+  private JulLogger julLogger;
+
+  @SuppressWarnings("NullAway.Init")
+  private BlackholeHandler handler;
+
+  @Setup(Level.Trial)
+  public void setUp(Blackhole blackhole) {
+    String name = JulLoggerBenchmark.class.getName();
+    logger = Logger.getLogger(name);
+    logger.setUseParentHandlers(false);
+    logger.setLevel(java.util.logging.Level.ALL);
+    handler = new BlackholeHandler(blackhole, handlerReadsSource);
+    logger.addHandler(handler);
+    julLogger = new JulLogger(name, JulLogger.SourceLocation.valueOf(sourceLocation));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    logger.removeHandler(handler);
+  }
+
+  @Benchmark
+  public void fine() {
+    julLogger.fine("Executing Statement: SELECT 1");
+  }
+
+  private static final class BlackholeHandler extends Handler {
+    private final Blackhole blackhole;
+    private final boolean readsSource;
+
+    BlackholeHandler(Blackhole blackhole, boolean readsSource) {
+      this.blackhole = blackhole;
+      this.readsSource = readsSource;
+    }
+
+    @Override
+    public void publish(@Nullable LogRecord logRecord) {
+      blackhole.consume(logRecord);
+      if (readsSource && logRecord != null) {
+        blackhole.consume(logRecord.getSourceClassName());
+        blackhole.consume(logRecord.getSourceMethodName());
+      }
+    }
+
+    @Override
+    public void flush() {
+      // Nothing is buffered
+    }
+
+    @Override
+    public void close() {
+      // Nothing to release
+    }
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import liquibase.logging.Logger;
+import org.jspecify.annotations.Nullable;
+
+final class AsyncLogPipeline {
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+  private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+  private static final int WARNING_VALUE = Level.WARNING.intValue();
+
+  private final RingBuffer<LogEvent> buffer;
+  private final OverflowPolicy overflowPolicy;
+  private final int sampleRate;
+  private final AtomicLong overflowCount = new AtomicLong();
+  private final LongAdder droppedCount = new LongAdder();
+  private volatile @Nullable Worker worker;
+  private @Nullable Thread shutdownHook;
+
+  AsyncLogPipeline(int bufferSize, OverflowPolicy overflowPolicy, int sampleRate) {
+    this.buffer = new RingBuffer<>(bufferSize);
+    this.overflowPolicy = checkNotNull(overflowPolicy);
+    this.sampleRate = Math.max(1, sampleRate);
+  }
+
+  void enqueue(Logger logger, Level level, @Nullable String message, @Nullable Throwable e) {
+    enqueue(logger, level, message, e, null);
+  }
+
+  void enqueue(
+      Logger logger,
+      Level level,
+      @Nullable String message,
+      @Nullable Throwable e,
+      StackWalker.@Nullable StackFrame caller) {
+    checkNotNull(logger);
+    checkNotNull(level);
+    enqueue(new LogEvent(logger, level, message, e, null, caller));
+  }
+
+  void enqueue(Logger logger, Level level, StructuredEvent structuredEvent) {
+    enqueue(logger, level, structuredEvent, null);
+  }
+
+  void enqueue(
+      Logger logger,
+      Level level,
+      StructuredEvent structuredEvent,
+      StackWalker.@Nullable StackFrame caller) {
+    checkNotNull(logger);
+    checkNotNull(level);
+    checkNotNull(structuredEvent);
+    enqueue(new LogEvent(logger, level, null, null, structuredEvent, caller));
+  }
+
+  private void enqueue(LogEvent event) {
+    var currentWorker = start();
+    if (Thread.currentThread() == currentWorker) {
+      // Logging from a backend must not wait for the queue it is draining
+      event.deliver();
+      return;
+    }
+    if (!buffer.offer(event) && !offerWhenFull(event, currentWorker)) {
+      droppedCount.increment();
+      return;
+    }
+    if (currentWorker.parked) {
+      LockSupport.unpark(currentWorker);
+    }
+  }
+
+  private boolean offerWhenFull(LogEvent event, Worker currentWorker) {
+    if (event.level.intValue() < WARNING_VALUE) {
+      if (overflowPolicy == OverflowPolicy.DROP_BELOW_WARN) {
+        return false;
+      }
+      if (overflowPolicy == OverflowPolicy.SAMPLE
+          && overflowCount.incrementAndGet() % sampleRate != 0) {
+        return false;
+      }
+    }
+    while (!buffer.offer(event)) {
+      if (!currentWorker.isAlive()) {
+        event.deliver();
+        return true;
+      }
+      LockSupport.unpark(currentWorker);
+      LockSupport.parkNanos(this, FULL_PARK_NANOS);
+    }
+    return true;
+  }
+
+  private Worker start() {
+    var currentWorker = worker;
+    if (currentWorker != null && (!currentWorker.stopping || currentWorker.isAlive())) {
+      return currentWorker;
+    }
+    synchronized (this) {
+      currentWorker = worker;
+      // A worker that outlived close() and has since ended leaves its buffer to a new one
+      if (currentWorker == null || (currentWorker.stopping && !currentWorker.isAlive())) {
+        addShutdownHook();
+        currentWorker = new Worker();
+        currentWorker.start();
+        worker = currentWorker;
+      }
+      return currentWorker;
+    }
+  }
+
+  private void addShutdownHook() {
+    if (shutdownHook != null) {
+      return;
+    }
+    var hook = new Thread(this::close, "markitect-liquibase-logging-close");
+    try {
+      Runtime.getRuntime().addShutdownHook(hook);
+      shutdownHook = hook;
+    } catch (IllegalStateException e) {
+      // Already shutting down
+    }
+  }
+
+  // The hook holds this pipeline, so it must not outlive it
+  private void removeShutdownHook() {
+    var hook = shutdownHook;
+    if (hook == null) {
+      return;
+    }
+    shutdownHook = null;
+    try {
+      Runtime.getRuntime().removeShutdownHook(hook);
+    } catch (IllegalStateException e) {
+      // Already shutting down, possibly in this very hook
+    }
+  }
+
+  synchronized void close() {
+    var currentWorker = worker;
+    if (currentWorker == null) {
+      removeShutdownHook();
+      return;
+    }
+    currentWorker.stopping = true;
+    LockSupport.unpark(currentWorker);
+    try {
+      currentWorker.join(CLOSE_TIMEOUT_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (currentWorker.isAlive()) {
+      // The worker still consumes the buffer, so draining it here would race with it
+      return;
+    }
+    worker = null;
+    removeShutdownHook();
+    // Events offered while the worker was stopping
+    for (var event = buffer.poll(); event != null; event = buffer.poll()) {
+      event.deliver();
+    }
+    reportDropped();
+  }
+
+  private void reportDropped() {
+    long count = droppedCount.sumThenReset();
+    if (count > 0) {
+      LoggerAdapter.getLogger(AsyncLogPipeline.class.getName())
+          .warning(count + " log events were dropped because the log buffer was full");
+    }
+  }
+
+  enum OverflowPolicy {
+    BLOCK,
+    DROP_BELOW_WARN,
+    SAMPLE;
+
+    static OverflowPolicy parse(@Nullable String value) {
+      if (value == null || value.isBlank()) {
+        return BLOCK;
+      }
+      try {
+        return valueOf(value.strip().replace('-', '_').toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        return BLOCK;
+      }
+    }
+  }
+
+  private static final class LogEvent {
+    private final Logger logger;
+    private final Level level;
+    private final @Nullable String message;
+    private final @Nullable Throwable thrown;
+    private final @Nullable StructuredEvent structuredEvent;
+    private final StackWalker.@Nullable StackFrame caller;
+
+    LogEvent(
+        Logger logger,
+        Level level,
+        @Nullable String message,
+        @Nullable Throwable thrown,
+        @Nullable StructuredEvent structuredEvent,
+        StackWalker.@Nullable StackFrame caller) {
+      this.logger = logger;
+      this.level = level;
+      this.message = message;
+      this.thrown = thrown;
+      this.structuredEvent = structuredEvent;
+      this.caller = caller;
+    }
+
+    void deliver() {
+      try {
+        if (logger instanceof JulLogger julLogger) {
+          // Finding the caller here would only find the worker thread
+          if (structuredEvent == null) {
+            julLogger.log(level, message, thrown, caller);
+          } else {
+            julLogger.log(level, structuredEvent, caller);
+          }
+        } else if (structuredEvent == null) {
+          logger.log(level, message, thrown);
+        } else if (logger instanceof MarkitectLogger markitectLogger) {
+          markitectLogger.log(level, structuredEvent);
+        } else {
+          logger.log(level, structuredEvent.toString(), null);
+        }
+      } catch (RuntimeException e) {
+        // A failing backend must not stop the pipeline
+      }
+    }
+  }
+
+  private final class Worker extends Thread {
+    private volatile boolean stopping;
+    private volatile boolean parked;
+
+    Worker() {
+      super("markitect-liquibase-logging");
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        var event = buffer.poll();
+        if (event != null) {
+          event.deliver();
+          continue;
+        }
+        reportDropped();
+        if (stopping) {
+          return;
+        }
+        parked = true;
+        if (buffer.isEmpty()) {
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        parked = false;
+      }
+    }
+  }
+}
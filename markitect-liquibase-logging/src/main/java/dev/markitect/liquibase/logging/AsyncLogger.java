@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.logging.Level;
+import liquibase.logging.Logger;
+import liquibase.logging.core.AbstractLogger;
+import org.jspecify.annotations.Nullable;
+
+@SuppressWarnings("squid:S2160")
+final class AsyncLogger extends AbstractLogger implements MarkitectLogger {
+  private final Logger logger;
+  private final AsyncLogPipeline pipeline;
+
+  AsyncLogger(Logger logger, AsyncLogPipeline pipeline) {
+    this.logger = checkNotNull(logger);
+    this.pipeline = checkNotNull(pipeline);
+  }
+
+  @Override
+  public void close() {
+    // Redeclared to throw no exception
+  }
+
+  @Override
+  public boolean isLoggable(Level level) {
+    checkNotNull(level);
+    return !(logger instanceof MarkitectLogger markitectLogger)
+        || markitectLogger.isLoggable(level);
+  }
+
+  @Override
+  public void log(Level level, @Nullable String message, @Nullable Throwable e) {
+    checkNotNull(level);
+    // Disabled events never take a slot in the buffer
+    if (isLoggable(level)) {
+      pipeline.enqueue(logger, level, message, e, findCaller());
+    }
+  }
+
+  @Override
+  public void log(Level level, StructuredEvent event) {
+    checkNotNull(level);
+    checkNotNull(event);
+    if (isLoggable(level)) {
+      pipeline.enqueue(logger, level, event, findCaller());
+    }
+  }
+
+  // The worker thread cannot see who logged, so the caller is found before the event is queued
+  private StackWalker.@Nullable StackFrame findCaller() {
+    return logger instanceof JulLogger julLogger && julLogger.isSourceLocationEnabled()
+        ? JulLogger.findCaller().orElse(null)
+        : null;
+  }
+}
@@ -19,25 +19,47 @@ package dev.markitect.liquibase.logging;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.io.Serial;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.logging.Level;
+import java.util.logging.LogManager;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import liquibase.logging.core.AbstractLogger;
 import org.jspecify.annotations.Nullable;
 
 @SuppressWarnings("squid:S2160")
-public class JulLogger extends AbstractLogger {
+public class JulLogger extends AbstractLogger implements MarkitectLogger {
+  public static final String SOURCE_LOCATION_PROPERTY =
+      JulLogger.class.getName() + ".sourceLocation";
+
   private static final StackWalker stackWalker =
       StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
 
+  static Optional<StackWalker.StackFrame> findCaller() {
+    return stackWalker.walk(
+        stream ->
+            stream.dropWhile(frame -> !isLogger(frame)).dropWhile(JulLogger::isLogger).findFirst());
+  }
+
+  private static boolean isLogger(StackWalker.StackFrame stackFrame) {
+    return liquibase.logging.Logger.class.isAssignableFrom(stackFrame.getDeclaringClass());
+  }
+
   private final String name;
   private final Logger logger;
+  private final SourceLocation sourceLocation;
 
-  @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
   JulLogger(String name) {
+    this(name, SourceLocation.EAGER);
+  }
+
+  @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
+  JulLogger(String name, SourceLocation sourceLocation) {
     this.name = checkNotNull(name);
     this.logger = Logger.getLogger(name);
+    this.sourceLocation = checkNotNull(sourceLocation);
   }
 
   @Override
@@ -45,6 +67,13 @@ public class JulLogger extends AbstractLogger {
     // Redeclared to throw no exception
   }
 
+  // JUL keeps the effective level as an int on the logger and refreshes it itself, so no cache
+  @Override
+  public boolean isLoggable(Level level) {
+    checkNotNull(level);
+    return logger.isLoggable(level);
+  }
+
   @Override
   public void log(Level level, @Nullable String message, @Nullable Throwable e) {
     checkNotNull(level);
@@ -53,32 +82,145 @@ public class JulLogger extends AbstractLogger {
     }
   }
 
+  @Override
+  public void log(Level level, StructuredEvent event) {
+    checkNotNull(level);
+    checkNotNull(event);
+    if (logger.isLoggable(level)) {
+      var logRecord = toLogRecord(level, toMessagePattern(event), null);
+      logRecord.setParameters(event.getValues().toArray());
+      logger.log(logRecord);
+    }
+  }
+
+  boolean isSourceLocationEnabled() {
+    return sourceLocation != SourceLocation.NONE;
+  }
+
+  // For events published on another thread, with the caller found on the thread that logged them
+  void log(
+      Level level,
+      @Nullable String message,
+      @Nullable Throwable e,
+      StackWalker.@Nullable StackFrame caller) {
+    checkNotNull(level);
+    if (logger.isLoggable(level)) {
+      logger.log(toLogRecord(level, message, e, caller));
+    }
+  }
+
+  void log(Level level, StructuredEvent event, StackWalker.@Nullable StackFrame caller) {
+    checkNotNull(level);
+    checkNotNull(event);
+    if (logger.isLoggable(level)) {
+      var logRecord = toLogRecord(level, toMessagePattern(event), null, caller);
+      logRecord.setParameters(event.getValues().toArray());
+      logger.log(logRecord);
+    }
+  }
+
+  // Formatters substitute the parameters, so the message is escaped for MessageFormat
+  private static String toMessagePattern(StructuredEvent event) {
+    var pattern = new StringBuilder(event.getMessage().replace("'", "''").replace("{", "'{'"));
+    var keys = event.getKeys();
+    for (int i = 0; i < keys.size(); i++) {
+      pattern.append(i == 0 ? " " : ", ").append(keys.get(i)).append("={").append(i).append('}');
+    }
+    return pattern.toString();
+  }
+
   private LogRecord toLogRecord(Level level, @Nullable String message, @Nullable Throwable e) {
+    if (sourceLocation == SourceLocation.LAZY) {
+      return initLogRecord(new LazySourceLogRecord(level, message), e);
+    }
+    return toLogRecord(
+        level,
+        message,
+        e,
+        sourceLocation == SourceLocation.EAGER ? findCaller().orElse(null) : null);
+  }
+
+  private LogRecord toLogRecord(
+      Level level,
+      @Nullable String message,
+      @Nullable Throwable e,
+      StackWalker.@Nullable StackFrame caller) {
     var logRecord = new LogRecord(level, message);
+    // Also stops LogRecord from inferring JulLogger itself as the caller
+    logRecord.setSourceClassName(caller != null ? caller.getClassName() : null);
+    logRecord.setSourceMethodName(caller != null ? caller.getMethodName() : null);
+    return initLogRecord(logRecord, e);
+  }
+
+  private LogRecord initLogRecord(LogRecord logRecord, @Nullable Throwable e) {
     logRecord.setLoggerName(name);
     logRecord.setThrown(e);
-    var found = new AtomicBoolean();
-    stackWalker
-        .walk(
-            stream ->
-                stream
-                    .filter(
-                        stackFrame -> {
-                          if (liquibase.logging.Logger.class.isAssignableFrom(
-                              stackFrame.getDeclaringClass())) {
-                            found.set(true);
-                            return false;
-                          }
-                          return found.get();
-                        })
-                    .findFirst())
-        .ifPresent(
-            stackFrame -> {
-              logRecord.setSourceClassName(stackFrame.getClassName());
-              logRecord.setSourceMethodName(stackFrame.getMethodName());
-            });
     logRecord.setResourceBundleName(logger.getResourceBundleName());
     logRecord.setResourceBundle(logger.getResourceBundle());
     return logRecord;
   }
+
+  enum SourceLocation {
+    EAGER,
+    LAZY,
+    NONE;
+
+    static SourceLocation configured() {
+      var value = LogManager.getLogManager().getProperty(SOURCE_LOCATION_PROPERTY);
+      if (value == null || value.isBlank()) {
+        return EAGER;
+      }
+      try {
+        return valueOf(value.strip().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        return EAGER;
+      }
+    }
+  }
+
+  // Walks the stack only when a handler or formatter asks, which must happen while publishing
+  private static final class LazySourceLogRecord extends LogRecord {
+    @Serial private static final long serialVersionUID = 1L;
+
+    private final transient Thread thread = Thread.currentThread();
+    private transient boolean sourceResolved;
+
+    LazySourceLogRecord(Level level, @Nullable String message) {
+      super(level, message);
+    }
+
+    @Override
+    public @Nullable String getSourceClassName() {
+      resolveSource();
+      return super.getSourceClassName();
+    }
+
+    @Override
+    public void setSourceClassName(@Nullable String sourceClassName) {
+      sourceResolved = true;
+      super.setSourceClassName(sourceClassName);
+    }
+
+    @Override
+    public @Nullable String getSourceMethodName() {
+      resolveSource();
+      return super.getSourceMethodName();
+    }
+
+    @Override
+    public void setSourceMethodName(@Nullable String sourceMethodName) {
+      sourceResolved = true;
+      super.setSourceMethodName(sourceMethodName);
+    }
+
+    private void resolveSource() {
+      if (sourceResolved) {
+        return;
+      }
+      sourceResolved = true;
+      var stackFrame = Thread.currentThread() == thread ? findCaller().orElse(null) : null;
+      super.setSourceClassName(stackFrame != null ? stackFrame.getClassName() : null);
+      super.setSourceMethodName(stackFrame != null ? stackFrame.getMethodName() : null);
+    }
+  }
 }
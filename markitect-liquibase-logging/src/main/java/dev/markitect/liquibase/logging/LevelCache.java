@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.errorprone.annotations.Var;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+
+// Remembers which standard JUL levels a backend logger has enabled, so isLoggable stays a mask test
+final class LevelCache {
+  static final Level[] STANDARD_LEVELS = {
+    Level.ALL,
+    Level.FINEST,
+    Level.FINER,
+    Level.FINE,
+    Level.CONFIG,
+    Level.INFO,
+    Level.WARNING,
+    Level.SEVERE,
+    Level.OFF
+  };
+
+  // Backends such as logback or JUL's Logger.setLevel publish no event, so bound the staleness
+  private static final long EXPIRY_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final int EXPIRY_CHECK_INTERVAL = 64;
+  private static final AtomicInteger generation = new AtomicInteger();
+
+  static {
+    LogManager.getLogManager().addConfigurationListener(LevelCache::invalidateAll);
+  }
+
+  static void invalidateAll() {
+    generation.incrementAndGet();
+  }
+
+  static int indexOf(Level level) {
+    return switch (level.intValue()) {
+      case Integer.MIN_VALUE -> 0;
+      case 300 -> 1;
+      case 400 -> 2;
+      case 500 -> 3;
+      case 700 -> 4;
+      case 800 -> 5;
+      case 900 -> 6;
+      case 1000 -> 7;
+      case Integer.MAX_VALUE -> 8;
+      default -> -1;
+    };
+  }
+
+  private final Predicate<Level> enabled;
+  private volatile int enabledLevels;
+  private volatile int refreshedGeneration = -1;
+  private volatile long refreshedNanos;
+  private int calls;
+
+  LevelCache(Predicate<Level> enabled) {
+    this.enabled = checkNotNull(enabled);
+  }
+
+  boolean isEnabled(Level level) {
+    checkNotNull(level);
+    int index = indexOf(level);
+    if (index < 0) {
+      return enabled.test(level);
+    }
+    if (refreshedGeneration != generation.get() || isExpired()) {
+      refresh();
+    }
+    return (enabledLevels & (1 << index)) != 0;
+  }
+
+  // The counter is racy on purpose; a lost increment only delays the next clock read
+  private boolean isExpired() {
+    return ++calls % EXPIRY_CHECK_INTERVAL == 0
+        && System.nanoTime() - refreshedNanos > EXPIRY_NANOS;
+  }
+
+  private void refresh() {
+    int currentGeneration = generation.get();
+    @Var int levels = 0;
+    for (int i = 0; i < STANDARD_LEVELS.length; i++) {
+      if (enabled.test(STANDARD_LEVELS[i])) {
+        levels |= 1 << i;
+      }
+    }
+    enabledLevels = levels;
+    refreshedNanos = System.nanoTime();
+    refreshedGeneration = currentGeneration;
+  }
+}
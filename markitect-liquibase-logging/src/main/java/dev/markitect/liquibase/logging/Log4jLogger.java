@@ -19,20 +19,31 @@ package dev.markitect.liquibase.logging;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Arrays;
 import java.util.logging.Level;
 import liquibase.logging.core.AbstractLogger;
+import org.apache.logging.log4j.message.StringMapMessage;
 import org.apache.logging.log4j.spi.ExtendedLogger;
 import org.jspecify.annotations.Nullable;
 
 @SuppressWarnings("squid:S2160")
-public class Log4jLogger extends AbstractLogger {
+public class Log4jLogger extends AbstractLogger implements MarkitectLogger {
   private static final String FQCN = Log4jLogger.class.getName();
   private static final int DEBUG_THRESHOLD = Level.FINER.intValue();
   private static final int INFO_THRESHOLD = Level.INFO.intValue();
   private static final int WARN_THRESHOLD = Level.WARNING.intValue();
   private static final int ERROR_THRESHOLD = Level.SEVERE.intValue();
+  private static final org.apache.logging.log4j.Level[] LOG4J_LEVELS =
+      Arrays.stream(LevelCache.STANDARD_LEVELS)
+          .map(Log4jLogger::mapLevel)
+          .toArray(org.apache.logging.log4j.Level[]::new);
 
   private static org.apache.logging.log4j.Level toLog4jLevel(Level level) {
+    int index = LevelCache.indexOf(level);
+    return index >= 0 ? LOG4J_LEVELS[index] : mapLevel(level);
+  }
+
+  private static org.apache.logging.log4j.Level mapLevel(Level level) {
     if (level.equals(Level.OFF)) {
       return org.apache.logging.log4j.Level.OFF;
     }
@@ -53,10 +64,17 @@ public class Log4jLogger extends AbstractLogger {
   }
 
   private final ExtendedLogger logger;
+  private final LevelCache levels;
 
   @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
   public Log4jLogger(ExtendedLogger logger) {
     this.logger = checkNotNull(logger);
+    this.levels = new LevelCache(level -> logger.isEnabled(toLog4jLevel(level)));
+  }
+
+  @Override
+  public boolean isLoggable(Level level) {
+    return levels.isEnabled(level);
   }
 
   @Override
@@ -129,4 +147,24 @@ public class Log4jLogger extends AbstractLogger {
     checkNotNull(level);
     logger.logIfEnabled(FQCN, toLog4jLevel(level), null, message, e);
   }
+
+  @Override
+  public void log(Level level, StructuredEvent event) {
+    checkNotNull(level);
+    checkNotNull(event);
+    var log4jLevel = toLog4jLevel(level);
+    if (!logger.isEnabled(log4jLevel)) {
+      return;
+    }
+    var keys = event.getKeys();
+    var values = event.getValues();
+    var mapMessage = new StringMapMessage(keys.size() + 1).with("message", event.getMessage());
+    for (int i = 0; i < keys.size(); i++) {
+      var value = values.get(i);
+      if (value != null) {
+        mapMessage.with(keys.get(i), value);
+      }
+    }
+    logger.logMessage(FQCN, log4jLevel, null, mapMessage, null);
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2025 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package dev.markitect.liquibase.logging;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import liquibase.logging.Logger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.spi.LoggerContext;
@@ -26,6 +28,9 @@ import org.slf4j.spi.LocationAwareLogger;
 
 public class LoggerAdapter {
   private static final LoggingApi LOGGING_API;
+  // Keyed by name only and holding wrappers weakly, so a reloaded class loader is never pinned
+  private static final Cache<String, Logger> LOGGERS =
+      CacheBuilder.newBuilder().weakValues().build();
 
   static {
     if (isPresent("org.apache.logging.log4j.spi.ExtendedLogger")
@@ -50,6 +55,15 @@ public class LoggerAdapter {
 
   public static Logger getLogger(String name) {
     checkNotNull(name);
+    return LOGGERS.asMap().computeIfAbsent(name, LoggerAdapter::createLogger);
+  }
+
+  // For backends that change levels without publishing an event the adapter can listen to
+  public static void refreshLevels() {
+    LevelCache.invalidateAll();
+  }
+
+  private static Logger createLogger(String name) {
     return switch (LOGGING_API) {
       case LOG4J -> Log4jAdapter.getLogger(name);
       case SLF4J -> Slf4jAdapter.getLogger(name);
@@ -66,7 +80,7 @@ public class LoggerAdapter {
   private static class JulAdapter {
     static Logger getLogger(String name) {
       checkNotNull(name);
-      return new JulLogger(name);
+      return new JulLogger(name, JulLogger.SourceLocation.configured());
     }
 
     private JulAdapter() {}
@@ -76,6 +90,12 @@ public class LoggerAdapter {
     private static final LoggerContext context =
         LogManager.getContext(Log4jAdapter.class.getClassLoader(), /* currentContext= */ false);
 
+    static {
+      if (isPresent("org.apache.logging.log4j.core.LoggerContext")) {
+        Log4jCoreListener.register(context);
+      }
+    }
+
     static Logger getLogger(String name) {
       checkNotNull(name);
       return new Log4jLogger(context.getLogger(name));
@@ -84,6 +104,17 @@ public class LoggerAdapter {
     private Log4jAdapter() {}
   }
 
+  // Kept apart so log4j-core is only resolved when it is on the class path
+  private static class Log4jCoreListener {
+    static void register(LoggerContext context) {
+      if (context instanceof org.apache.logging.log4j.core.LoggerContext coreContext) {
+        coreContext.addPropertyChangeListener(event -> LevelCache.invalidateAll());
+      }
+    }
+
+    private Log4jCoreListener() {}
+  }
+
   private static class Slf4jAdapter {
     static Logger getLogger(String name) {
       checkNotNull(name);
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,10 +18,46 @@ package dev.markitect.liquibase.logging;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import dev.markitect.liquibase.logging.AsyncLogPipeline.OverflowPolicy;
 import liquibase.logging.Logger;
 import liquibase.logging.core.AbstractLogService;
+import org.jspecify.annotations.Nullable;
 
 public class MarkitectLogService extends AbstractLogService {
+  public static final String ASYNC_PROPERTY = MarkitectLogService.class.getName() + ".async";
+  public static final String ASYNC_BUFFER_SIZE_PROPERTY = ASYNC_PROPERTY + ".bufferSize";
+  public static final String ASYNC_OVERFLOW_POLICY_PROPERTY = ASYNC_PROPERTY + ".overflowPolicy";
+  public static final String ASYNC_SAMPLE_RATE_PROPERTY = ASYNC_PROPERTY + ".sampleRate";
+
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+  private static final int MAXIMUM_BUFFER_SIZE = 1 << 20;
+  private static final int DEFAULT_SAMPLE_RATE = 10;
+
+  private static @Nullable AsyncLogPipeline createPipeline() {
+    if (!Boolean.getBoolean(ASYNC_PROPERTY)) {
+      return null;
+    }
+    int bufferSize = Integer.getInteger(ASYNC_BUFFER_SIZE_PROPERTY, DEFAULT_BUFFER_SIZE);
+    return new AsyncLogPipeline(
+        Math.min(Math.max(bufferSize, 1), MAXIMUM_BUFFER_SIZE),
+        OverflowPolicy.parse(System.getProperty(ASYNC_OVERFLOW_POLICY_PROPERTY)),
+        Integer.getInteger(ASYNC_SAMPLE_RATE_PROPERTY, DEFAULT_SAMPLE_RATE));
+  }
+
+  private final @Nullable AsyncLogPipeline pipeline;
+  private final Cache<String, Logger> asyncLoggers =
+      CacheBuilder.newBuilder().weakValues().build();
+
+  public MarkitectLogService() {
+    this(createPipeline());
+  }
+
+  MarkitectLogService(@Nullable AsyncLogPipeline pipeline) {
+    this.pipeline = pipeline;
+  }
+
   @Override
   public int getPriority() {
     return PRIORITY_SPECIALIZED;
@@ -31,6 +67,20 @@ public class MarkitectLogService extends AbstractLogService {
   @SuppressWarnings({"rawtypes", "RedundantSuppression"})
   public Logger getLog(Class clazz) {
     checkNotNull(clazz);
-    return LoggerAdapter.getLogger(clazz.getName());
+    var logger = LoggerAdapter.getLogger(clazz.getName());
+    var asyncPipeline = pipeline;
+    if (asyncPipeline == null) {
+      return logger;
+    }
+    return asyncLoggers
+        .asMap()
+        .computeIfAbsent(clazz.getName(), ignored -> new AsyncLogger(logger, asyncPipeline));
+  }
+
+  @Override
+  public void close() {
+    if (pipeline != null) {
+      pipeline.close();
+    }
   }
 }
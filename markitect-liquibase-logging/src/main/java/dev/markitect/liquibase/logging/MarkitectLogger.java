@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import liquibase.logging.Logger;
+import org.jspecify.annotations.Nullable;
+
+public interface MarkitectLogger extends Logger {
+  static void log(Logger logger, Level level, Supplier<@Nullable String> messageSupplier) {
+    checkNotNull(logger);
+    checkNotNull(level);
+    checkNotNull(messageSupplier);
+    if (logger instanceof MarkitectLogger markitectLogger) {
+      markitectLogger.log(level, messageSupplier);
+    } else {
+      logger.log(level, messageSupplier.get(), null);
+    }
+  }
+
+  boolean isLoggable(Level level);
+
+  default void log(Level level, Supplier<@Nullable String> messageSupplier) {
+    log(level, null, messageSupplier);
+  }
+
+  default void log(
+      Level level, @Nullable Throwable e, Supplier<@Nullable String> messageSupplier) {
+    checkNotNull(level);
+    checkNotNull(messageSupplier);
+    if (isLoggable(level)) {
+      log(level, messageSupplier.get(), e);
+    }
+  }
+
+  // Backends override this to keep the fields apart instead of flattening them into the text
+  default void log(Level level, StructuredEvent event) {
+    checkNotNull(level);
+    checkNotNull(event);
+    if (isLoggable(level)) {
+      log(level, event.toString(), null);
+    }
+  }
+}
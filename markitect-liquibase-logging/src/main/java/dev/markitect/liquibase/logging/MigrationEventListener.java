@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import liquibase.Scope;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.changelog.visitor.AbstractChangeExecListener;
+import liquibase.database.Database;
+import liquibase.executor.jvm.JdbcExecutor;
+import liquibase.listener.SqlListener;
+import liquibase.logging.Logger;
+import org.jspecify.annotations.Nullable;
+
+// Register as the change exec listener and as a scope listener so that SQL is counted as well
+public class MigrationEventListener extends AbstractChangeExecListener implements SqlListener {
+  public static final String MESSAGE = "Change set ran";
+  public static final String CHANGE_SET_ID_KEY = "changeSetId";
+  public static final String CHANGE_SET_AUTHOR_KEY = "changeSetAuthor";
+  public static final String CHANGE_SET_FILE_KEY = "changeSetFile";
+  public static final String EXEC_TYPE_KEY = "execType";
+  public static final String EXECUTION_TIME_KEY = "executionTimeMillis";
+  public static final String ROWS_AFFECTED_KEY = "rowsAffected";
+  public static final String SQL_COUNT_KEY = "sqlCount";
+
+  private static long getRowsAffected() {
+    // JdbcExecutor accumulates update counts there while a command runs
+    var rowsAffected =
+        Scope.getCurrentScope().get(JdbcExecutor.ROWS_AFFECTED_SCOPE_KEY, AtomicInteger.class);
+    return rowsAffected != null ? rowsAffected.get() : -1;
+  }
+
+  private final Logger logger;
+  private final Level level;
+  // Change sets run one at a time, so plain fields hold the state of the current one
+  private boolean tracking;
+  private long startNanos;
+  private long startRowsAffected;
+  private int sqlCount;
+
+  public MigrationEventListener() {
+    this(Scope.getCurrentScope().getLog(MigrationEventListener.class), Level.INFO);
+  }
+
+  public MigrationEventListener(Logger logger, Level level) {
+    this.logger = checkNotNull(logger);
+    this.level = checkNotNull(level);
+  }
+
+  @Override
+  public void willRun(
+      ChangeSet changeSet,
+      DatabaseChangeLog databaseChangeLog,
+      Database database,
+      ChangeSet.RunStatus runStatus) {
+    tracking = isLoggable();
+    if (tracking) {
+      startNanos = System.nanoTime();
+      startRowsAffected = getRowsAffected();
+      sqlCount = 0;
+    }
+  }
+
+  @Override
+  public void ran(
+      ChangeSet changeSet,
+      DatabaseChangeLog databaseChangeLog,
+      Database database,
+      ChangeSet.ExecType execType) {
+    checkNotNull(changeSet);
+    checkNotNull(execType);
+    logEvent(changeSet, execType.name());
+  }
+
+  @Override
+  public void runFailed(
+      ChangeSet changeSet,
+      DatabaseChangeLog databaseChangeLog,
+      Database database,
+      Exception exception) {
+    checkNotNull(changeSet);
+    logEvent(changeSet, ChangeSet.ExecType.FAILED.name());
+  }
+
+  @Override
+  public void readSqlWillRun(String sql) {
+    // Only statements that change the database are counted
+  }
+
+  @Override
+  public void writeSqlWillRun(String sql) {
+    if (tracking) {
+      sqlCount++;
+    }
+  }
+
+  private boolean isLoggable() {
+    return !(logger instanceof MarkitectLogger markitectLogger)
+        || markitectLogger.isLoggable(level);
+  }
+
+  private void logEvent(ChangeSet changeSet, String execType) {
+    if (!tracking) {
+      return;
+    }
+    tracking = false;
+    long executionTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    long endRowsAffected = getRowsAffected();
+    var event =
+        StructuredEvent.builder(MESSAGE)
+            .with(CHANGE_SET_ID_KEY, changeSet.getId())
+            .with(CHANGE_SET_AUTHOR_KEY, changeSet.getAuthor())
+            .with(CHANGE_SET_FILE_KEY, changeSet.getFilePath())
+            .with(EXEC_TYPE_KEY, execType)
+            .with(EXECUTION_TIME_KEY, executionTime)
+            .with(ROWS_AFFECTED_KEY, toRowsAffected(endRowsAffected))
+            .with(SQL_COUNT_KEY, sqlCount)
+            .build();
+    if (logger instanceof MarkitectLogger markitectLogger) {
+      markitectLogger.log(level, event);
+    } else {
+      logger.log(level, event.toString(), null);
+    }
+  }
+
+  private @Nullable Long toRowsAffected(long endRowsAffected) {
+    if (startRowsAffected < 0 || endRowsAffected < 0) {
+      return null;
+    }
+    return endRowsAffected - startRowsAffected;
+  }
+}
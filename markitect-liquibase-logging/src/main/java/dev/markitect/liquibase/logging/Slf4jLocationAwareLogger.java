@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,23 +25,6 @@ import org.slf4j.spi.LocationAwareLogger;
 public class Slf4jLocationAwareLogger extends Slf4jLogger<LocationAwareLogger> {
   private static final String FQCN = Slf4jLocationAwareLogger.class.getName();
 
-  private static int toSlf4jLevel(Level level) {
-    int value = level.intValue();
-    if (value < DEBUG_THRESHOLD) {
-      return LocationAwareLogger.TRACE_INT;
-    }
-    if (value < INFO_THRESHOLD) {
-      return LocationAwareLogger.DEBUG_INT;
-    }
-    if (value < WARN_THRESHOLD) {
-      return LocationAwareLogger.INFO_INT;
-    }
-    if (value < ERROR_THRESHOLD) {
-      return LocationAwareLogger.WARN_INT;
-    }
-    return LocationAwareLogger.ERROR_INT;
-  }
-
   public Slf4jLocationAwareLogger(LocationAwareLogger logger) {
     super(logger);
   }
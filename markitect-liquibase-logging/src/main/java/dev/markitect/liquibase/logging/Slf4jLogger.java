@@ -17,26 +17,77 @@
 package dev.markitect.liquibase.logging;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static org.slf4j.event.Level.intToLevel;
 
+import com.google.errorprone.annotations.Var;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.util.Arrays;
 import java.util.logging.Level;
 import liquibase.logging.core.AbstractLogger;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
+import org.slf4j.spi.CallerBoundaryAware;
+import org.slf4j.spi.LocationAwareLogger;
+import org.slf4j.spi.LoggingEventBuilder;
 
 @SuppressFBWarnings("CRLF_INJECTION_LOGS")
 @SuppressWarnings("squid:S2160")
-public class Slf4jLogger<L extends Logger> extends AbstractLogger {
+public class Slf4jLogger<L extends Logger> extends AbstractLogger implements MarkitectLogger {
+  private static final String FQCN = Slf4jLogger.class.getName();
   protected static final int DEBUG_THRESHOLD = Level.FINER.intValue();
   protected static final int INFO_THRESHOLD = Level.INFO.intValue();
   protected static final int WARN_THRESHOLD = Level.WARNING.intValue();
   protected static final int ERROR_THRESHOLD = Level.SEVERE.intValue();
+  private static final int[] SLF4J_LEVELS =
+      Arrays.stream(LevelCache.STANDARD_LEVELS).mapToInt(Slf4jLogger::mapLevel).toArray();
+
+  protected static int toSlf4jLevel(Level level) {
+    int index = LevelCache.indexOf(level);
+    return index >= 0 ? SLF4J_LEVELS[index] : mapLevel(level);
+  }
+
+  private static int mapLevel(Level level) {
+    int value = level.intValue();
+    if (value < DEBUG_THRESHOLD) {
+      return LocationAwareLogger.TRACE_INT;
+    }
+    if (value < INFO_THRESHOLD) {
+      return LocationAwareLogger.DEBUG_INT;
+    }
+    if (value < WARN_THRESHOLD) {
+      return LocationAwareLogger.INFO_INT;
+    }
+    if (value < ERROR_THRESHOLD) {
+      return LocationAwareLogger.WARN_INT;
+    }
+    return LocationAwareLogger.ERROR_INT;
+  }
 
   protected final L logger;
+  private final LevelCache levels;
 
   @SuppressFBWarnings("CT_CONSTRUCTOR_THROW")
   public Slf4jLogger(L logger) {
     this.logger = checkNotNull(logger);
+    this.levels = new LevelCache(level -> isEnabled(logger, level));
+  }
+
+  @Override
+  public boolean isLoggable(Level level) {
+    return levels.isEnabled(level);
+  }
+
+  private static boolean isEnabled(Logger logger, Level level) {
+    if (level.equals(Level.OFF)) {
+      return false;
+    }
+    return switch (toSlf4jLevel(level)) {
+      case LocationAwareLogger.TRACE_INT -> logger.isTraceEnabled();
+      case LocationAwareLogger.DEBUG_INT -> logger.isDebugEnabled();
+      case LocationAwareLogger.INFO_INT -> logger.isInfoEnabled();
+      case LocationAwareLogger.WARN_INT -> logger.isWarnEnabled();
+      default -> logger.isErrorEnabled();
+    };
   }
 
   @Override
@@ -104,23 +155,37 @@ public class Slf4jLogger<L extends Logger> extends AbstractLogger {
     // Redeclared to throw no exception
   }
 
+  @Override
+  public void log(Level level, StructuredEvent event) {
+    checkNotNull(level);
+    checkNotNull(event);
+    if (!isEnabled(logger, level)) {
+      return;
+    }
+    @Var LoggingEventBuilder builder = logger.atLevel(intToLevel(toSlf4jLevel(level)));
+    if (builder instanceof CallerBoundaryAware callerBoundaryAware) {
+      callerBoundaryAware.setCallerBoundary(FQCN);
+    }
+    var keys = event.getKeys();
+    var values = event.getValues();
+    for (int i = 0; i < keys.size(); i++) {
+      builder = builder.addKeyValue(keys.get(i), values.get(i));
+    }
+    builder.log(event.getMessage());
+  }
+
   @Override
   public void log(Level level, @Nullable String message, @Nullable Throwable e) {
     checkNotNull(level);
     if (level.equals(Level.OFF)) {
       return;
     }
-    int value = level.intValue();
-    if (value < DEBUG_THRESHOLD) {
-      logger.trace(message, e);
-    } else if (value < INFO_THRESHOLD) {
-      logger.debug(message, e);
-    } else if (value < WARN_THRESHOLD) {
-      logger.info(message, e);
-    } else if (value < ERROR_THRESHOLD) {
-      logger.warn(message, e);
-    } else {
-      logger.error(message, e);
+    switch (toSlf4jLevel(level)) {
+      case LocationAwareLogger.TRACE_INT -> logger.trace(message, e);
+      case LocationAwareLogger.DEBUG_INT -> logger.debug(message, e);
+      case LocationAwareLogger.INFO_INT -> logger.info(message, e);
+      case LocationAwareLogger.WARN_INT -> logger.warn(message, e);
+      default -> logger.error(message, e);
     }
   }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.unmodifiableList;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+public final class StructuredEvent {
+  public static Builder builder(String message) {
+    return new Builder(message);
+  }
+
+  private final String message;
+  private final List<String> keys;
+  private final List<@Nullable Object> values;
+
+  private StructuredEvent(Builder builder) {
+    this.message = builder.message;
+    this.keys = unmodifiableList(new ArrayList<>(builder.keys));
+    this.values = unmodifiableList(new ArrayList<>(builder.values));
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public List<String> getKeys() {
+    return keys;
+  }
+
+  public List<@Nullable Object> getValues() {
+    return values;
+  }
+
+  @Override
+  public String toString() {
+    var text = new StringBuilder(message);
+    for (int i = 0; i < keys.size(); i++) {
+      text.append(i == 0 ? " " : ", ").append(keys.get(i)).append('=').append(values.get(i));
+    }
+    return text.toString();
+  }
+
+  public static final class Builder {
+    private final String message;
+    private final List<String> keys = new ArrayList<>();
+    private final List<@Nullable Object> values = new ArrayList<>();
+
+    private Builder(String message) {
+      this.message = checkNotNull(message);
+    }
+
+    @CanIgnoreReturnValue
+    public Builder with(String key, @Nullable Object value) {
+      checkNotNull(key);
+      checkArgument(!keys.contains(key), "Duplicate key: %s", key);
+      keys.add(key);
+      values.add(value);
+      return this;
+    }
+
+    public StructuredEvent build() {
+      return new StructuredEvent(this);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import dev.markitect.liquibase.logging.AsyncLogPipeline.OverflowPolicy;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import liquibase.logging.Logger;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncLogPipelineTests {
+  @Mock private Logger logger;
+
+  @Test
+  void close() {
+    // given
+    var pipeline = new AsyncLogPipeline(16, OverflowPolicy.BLOCK, 1);
+    var thrown = new Exception();
+
+    // when
+    pipeline.enqueue(logger, Level.INFO, "i", null);
+    pipeline.enqueue(logger, Level.WARNING, "w", thrown);
+    pipeline.enqueue(logger, Level.FINE, "f", null);
+    pipeline.close();
+
+    // then
+    var inOrder = inOrder(logger);
+    then(logger).should(inOrder).log(Level.INFO, "i", null);
+    then(logger).should(inOrder).log(Level.WARNING, "w", thrown);
+    then(logger).should(inOrder).log(Level.FINE, "f", null);
+  }
+
+  @Test
+  void enqueue_afterClose() {
+    // given
+    var pipeline = new AsyncLogPipeline(16, OverflowPolicy.BLOCK, 1);
+    pipeline.enqueue(logger, Level.INFO, "before", null);
+    pipeline.close();
+
+    // when
+    pipeline.enqueue(logger, Level.INFO, "after", null);
+    pipeline.close();
+
+    // then
+    var inOrder = inOrder(logger);
+    then(logger).should(inOrder).log(Level.INFO, "before", null);
+    then(logger).should(inOrder).log(Level.INFO, "after", null);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # overflowPolicy
+          DROP_BELOW_WARN
+          SAMPLE
+          """,
+      delimiter = '|')
+  void enqueue_dropsWhenFull(OverflowPolicy overflowPolicy) throws Exception {
+    // given
+    var pipeline = new AsyncLogPipeline(2, overflowPolicy, 2);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    willAnswer(
+            invocation -> {
+              if ("first".equals(invocation.getArgument(1))) {
+                started.countDown();
+                assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+              }
+              return null;
+            })
+        .given(logger)
+        .log(any(), any(), any());
+    pipeline.enqueue(logger, Level.INFO, "first", null);
+    assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    pipeline.enqueue(logger, Level.INFO, "second", null);
+    pipeline.enqueue(logger, Level.INFO, "third", null);
+    pipeline.enqueue(logger, Level.INFO, "fourth", null);
+    release.countDown();
+    pipeline.close();
+
+    // then
+    var inOrder = inOrder(logger);
+    then(logger).should(inOrder).log(Level.INFO, "first", null);
+    then(logger).should(inOrder).log(Level.INFO, "second", null);
+    then(logger).should(inOrder).log(Level.INFO, "third", null);
+    then(logger).should(never()).log(Level.INFO, "fourth", null);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # value           | expected
+                            | BLOCK
+          block             | BLOCK
+          drop-below-warn   | DROP_BELOW_WARN
+          DROP_BELOW_WARN   | DROP_BELOW_WARN
+          sample            | SAMPLE
+          unknown           | BLOCK
+          """,
+      delimiter = '|')
+  void parse(@Nullable String value, OverflowPolicy expected) {
+    // when
+    var overflowPolicy = OverflowPolicy.parse(value);
+
+    // then
+    assertThat(overflowPolicy).isEqualTo(expected);
+  }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2025 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,15 +21,22 @@ import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.ResourceBundle;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -125,4 +132,83 @@ class JulLoggerTests {
             tuple(Level.FINER, "fr", name, null, sourceClassName, "test", "rb", rb),
             tuple(Level.OFF, "o", name, null, sourceClassName, "test", "rb", rb));
   }
+
+  @Test
+  void log_lazySourceLocation() {
+    // given
+    String name = JulLoggerTests.class.getName();
+    String sourceClassName = JulLoggerTests.class.getName();
+    mockedLogger.when(() -> Logger.getLogger(name)).thenReturn(logger);
+    given(logger.isLoggable(any())).willReturn(true);
+    List<List<@Nullable String>> sources = new ArrayList<>();
+    willAnswer(
+            invocation -> {
+              LogRecord logRecord = invocation.getArgument(0);
+              sources.add(
+                  Arrays.asList(logRecord.getSourceClassName(), logRecord.getSourceMethodName()));
+              return null;
+            })
+        .given(logger)
+        .log(any(LogRecord.class));
+    var julLogger = new JulLogger(name, JulLogger.SourceLocation.LAZY);
+
+    // when
+    julLogger.info("i");
+    julLogger.log(Level.FINE, "f", null);
+
+    // then
+    assertThat(sources)
+        .containsExactly(
+            List.of(sourceClassName, "log_lazySourceLocation"),
+            List.of(sourceClassName, "log_lazySourceLocation"));
+  }
+
+  @Test
+  void log_noSourceLocation() {
+    // given
+    String name = JulLoggerTests.class.getName();
+    mockedLogger.when(() -> Logger.getLogger(name)).thenReturn(logger);
+    given(logger.isLoggable(any())).willReturn(true);
+    var julLogger = new JulLogger(name, JulLogger.SourceLocation.NONE);
+
+    // when
+    julLogger.info("i");
+
+    // then
+    then(logger).should().log(logRecordCaptor.capture());
+    assertThat(logRecordCaptor.getValue())
+        .extracting(LogRecord::getSourceClassName, LogRecord::getSourceMethodName)
+        .containsExactly(null, null);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # sourceLocation
+          EAGER
+          LAZY
+          """,
+      delimiter = '|')
+  void log_async(JulLogger.SourceLocation sourceLocation) {
+    // given
+    String name = JulLoggerTests.class.getName();
+    String sourceClassName = JulLoggerTests.class.getName();
+    mockedLogger.when(() -> Logger.getLogger(name)).thenReturn(logger);
+    given(logger.isLoggable(any())).willReturn(true);
+    var pipeline = new AsyncLogPipeline(16, AsyncLogPipeline.OverflowPolicy.BLOCK, 1);
+    var asyncLogger = new AsyncLogger(new JulLogger(name, sourceLocation), pipeline);
+
+    // when
+    asyncLogger.info("i");
+    asyncLogger.log(Level.FINE, StructuredEvent.builder("f").with("key", 1).build());
+    pipeline.close();
+
+    // then
+    then(logger).should(times(2)).log(logRecordCaptor.capture());
+    assertThat(logRecordCaptor.getAllValues())
+        .extracting(LogRecord::getSourceClassName, LogRecord::getSourceMethodName)
+        .containsExactly(
+            tuple(sourceClassName, "log_async"), tuple(sourceClassName, "log_async"));
+  }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class LevelCacheTests {
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = '|',
+      textBlock =
+          """
+          ALL     | false
+          FINEST  | false
+          FINER   | false
+          FINE    | false
+          CONFIG  | false
+          INFO    | true
+          WARNING | true
+          SEVERE  | true
+          OFF     | true
+          """)
+  void isEnabled(String levelName, boolean expected) {
+    // given
+    var levelCache = new LevelCache(level -> level.intValue() >= Level.INFO.intValue());
+
+    // when
+    boolean enabled = levelCache.isEnabled(Level.parse(levelName));
+
+    // then
+    assertThat(enabled).isEqualTo(expected);
+  }
+
+  @Test
+  void isEnabled_cached() {
+    // given
+    List<Level> testedLevels = new ArrayList<>();
+    var levelCache =
+        new LevelCache(
+            level -> {
+              testedLevels.add(level);
+              return true;
+            });
+
+    // when
+    levelCache.isEnabled(Level.INFO);
+    levelCache.isEnabled(Level.FINE);
+    levelCache.isEnabled(Level.SEVERE);
+
+    // then
+    assertThat(testedLevels).containsExactly(LevelCache.STANDARD_LEVELS);
+  }
+
+  @Test
+  void isEnabled_invalidated() {
+    // given
+    var threshold = new int[] {Level.INFO.intValue()};
+    var levelCache = new LevelCache(level -> level.intValue() >= threshold[0]);
+    boolean enabledBefore = levelCache.isEnabled(Level.FINE);
+
+    // when
+    threshold[0] = Level.FINE.intValue();
+    LevelCache.invalidateAll();
+    boolean enabledAfter = levelCache.isEnabled(Level.FINE);
+
+    // then
+    assertThat(enabledBefore).isFalse();
+    assertThat(enabledAfter).isTrue();
+  }
+
+  @Test
+  void isEnabled_customLevel() {
+    // given
+    List<Level> testedLevels = new ArrayList<>();
+    var levelCache =
+        new LevelCache(
+            level -> {
+              testedLevels.add(level);
+              return false;
+            });
+    var customLevel = new CustomLevel("CUSTOM", 850);
+
+    // when
+    levelCache.isEnabled(customLevel);
+    levelCache.isEnabled(customLevel);
+
+    // then
+    assertThat(testedLevels).containsExactly(customLevel, customLevel);
+  }
+
+  private static final class CustomLevel extends Level {
+    @Serial private static final long serialVersionUID = 1L;
+
+    CustomLevel(String name, int value) {
+      super(name, value);
+    }
+  }
+}
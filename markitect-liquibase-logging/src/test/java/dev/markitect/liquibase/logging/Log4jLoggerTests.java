@@ -16,19 +16,29 @@
 
 package dev.markitect.liquibase.logging;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.inOrder;
 
 import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.StringMapMessage;
 import org.apache.logging.log4j.spi.ExtendedLogger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class Log4jLoggerTests {
   @Mock private ExtendedLogger logger;
+  @Captor private ArgumentCaptor<Message> messageCaptor;
 
   @Test
   void test() {
@@ -86,4 +96,31 @@ class Log4jLoggerTests {
     then(logger).should(inOrder).logIfEnabled(fqcn, Level.OFF, null, "o", (Throwable) null);
     then(logger).shouldHaveNoMoreInteractions();
   }
+
+  @Test
+  void log_structuredEvent() {
+    // given
+    String fqcn = Log4jLogger.class.getName();
+    given(logger.isEnabled(any(Level.class)))
+        .willAnswer(invocation -> Level.INFO.equals(invocation.getArgument(0)));
+    var log4jLogger = new Log4jLogger(logger);
+    var event = StructuredEvent.builder("Ran").with("id", "1").with("rows", 2L).build();
+
+    // when
+    log4jLogger.log(java.util.logging.Level.FINE, event);
+    log4jLogger.log(java.util.logging.Level.INFO, event);
+
+    // then
+    then(logger)
+        .should()
+        .logMessage(eq(fqcn), eq(Level.INFO), isNull(), messageCaptor.capture(), isNull());
+    assertThat(messageCaptor.getValue())
+        .isInstanceOfSatisfying(
+            StringMapMessage.class,
+            mapMessage -> {
+              assertThat(mapMessage.get("message")).isEqualTo("Ran");
+              assertThat(mapMessage.get("id")).isEqualTo("1");
+              assertThat(mapMessage.get("rows")).isEqualTo("2");
+            });
+  }
 }
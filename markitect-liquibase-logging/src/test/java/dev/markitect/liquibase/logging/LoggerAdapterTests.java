@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LoggerAdapterTests {
+  @Test
+  void getLogger() {
+    // given
+    String name = LoggerAdapterTests.class.getName();
+
+    // when
+    var logger = LoggerAdapter.getLogger(name);
+    var logger2 = LoggerAdapter.getLogger(name);
+    var otherLogger = LoggerAdapter.getLogger(LoggerAdapter.class.getName());
+
+    // then
+    assertThat(logger2).isSameAs(logger);
+    assertThat(otherLogger).isNotSameAs(logger);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import liquibase.Scope;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.database.Database;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MigrationEventListenerTests {
+  @Mock private MarkitectLogger logger;
+  @Mock private ChangeSet changeSet;
+  @Mock private DatabaseChangeLog databaseChangeLog;
+  @Mock private Database database;
+  @Captor private ArgumentCaptor<StructuredEvent> eventCaptor;
+
+  @Test
+  void ran() throws Exception {
+    // given
+    given(logger.isLoggable(Level.INFO)).willReturn(true);
+    given(changeSet.getId()).willReturn("1");
+    given(changeSet.getAuthor()).willReturn("markitect");
+    given(changeSet.getFilePath()).willReturn("db/changelog.xml");
+    var listener = new MigrationEventListener(logger, Level.INFO);
+    var rowsAffected = new AtomicInteger(5);
+
+    // when
+    Scope.child(
+        Map.of("rowsAffected", rowsAffected),
+        () -> {
+          listener.willRun(changeSet, databaseChangeLog, database, ChangeSet.RunStatus.NOT_RAN);
+          listener.readSqlWillRun("SELECT 1");
+          listener.writeSqlWillRun("INSERT INTO t VALUES (1)");
+          listener.writeSqlWillRun("INSERT INTO t VALUES (2)");
+          rowsAffected.addAndGet(2);
+          listener.ran(changeSet, databaseChangeLog, database, ChangeSet.ExecType.EXECUTED);
+        });
+
+    // then
+    then(logger).should().log(eq(Level.INFO), eventCaptor.capture());
+    var event = eventCaptor.getValue();
+    assertThat(event.getMessage()).isEqualTo(MigrationEventListener.MESSAGE);
+    assertThat(event.getKeys())
+        .containsExactly(
+            MigrationEventListener.CHANGE_SET_ID_KEY,
+            MigrationEventListener.CHANGE_SET_AUTHOR_KEY,
+            MigrationEventListener.CHANGE_SET_FILE_KEY,
+            MigrationEventListener.EXEC_TYPE_KEY,
+            MigrationEventListener.EXECUTION_TIME_KEY,
+            MigrationEventListener.ROWS_AFFECTED_KEY,
+            MigrationEventListener.SQL_COUNT_KEY);
+    assertThat(event.getValues())
+        .startsWith("1", "markitect", "db/changelog.xml", "EXECUTED")
+        .endsWith(2L, 2);
+  }
+
+  @Test
+  void runFailed() {
+    // given
+    given(logger.isLoggable(Level.INFO)).willReturn(true);
+    var listener = new MigrationEventListener(logger, Level.INFO);
+
+    // when
+    listener.willRun(changeSet, databaseChangeLog, database, ChangeSet.RunStatus.NOT_RAN);
+    listener.runFailed(changeSet, databaseChangeLog, database, new Exception());
+
+    // then
+    then(logger).should().log(eq(Level.INFO), eventCaptor.capture());
+    assertThat(eventCaptor.getValue().getValues()).contains("FAILED").endsWith(null, 0);
+  }
+
+  @Test
+  void ran_disabled() {
+    // given
+    var listener = new MigrationEventListener(logger, Level.INFO);
+
+    // when
+    listener.willRun(changeSet, databaseChangeLog, database, ChangeSet.RunStatus.NOT_RAN);
+    listener.writeSqlWillRun("INSERT INTO t VALUES (1)");
+    listener.ran(changeSet, databaseChangeLog, database, ChangeSet.ExecType.EXECUTED);
+
+    // then
+    then(logger).should(never()).log(any(Level.class), any(StructuredEvent.class));
+    then(changeSet).shouldHaveNoInteractions();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RingBufferTests {
+  @ParameterizedTest
+  @CsvSource(
+      textBlock =
+          """
+          # capacity | expected
+          1          | 2
+          2          | 2
+          3          | 4
+          8          | 8
+          1000       | 1024
+          """,
+      delimiter = '|')
+  void capacity(int capacity, int expected) {
+    // when
+    var ringBuffer = new RingBuffer<String>(capacity);
+
+    // then
+    assertThat(ringBuffer.capacity()).isEqualTo(expected);
+  }
+
+  @Test
+  void capacity_throwsIllegalArgumentException() {
+    // when
+    var thrown = catchThrowable(() -> new RingBuffer<String>(0));
+
+    // then
+    assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void offerAndPoll() {
+    // given
+    var ringBuffer = new RingBuffer<String>(4);
+
+    // when
+    boolean[] offered = new boolean[5];
+    for (int i = 0; i < offered.length; i++) {
+      offered[i] = ringBuffer.offer("e" + i);
+    }
+    @Nullable String[] polled = new String[5];
+    for (int i = 0; i < polled.length; i++) {
+      polled[i] = ringBuffer.poll();
+    }
+
+    // then
+    assertThat(offered).containsExactly(true, true, true, true, false);
+    assertThat(polled).containsExactly("e0", "e1", "e2", "e3", null);
+    assertThat(ringBuffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  void offerAndPoll_wrapsAround() {
+    // given
+    var ringBuffer = new RingBuffer<Integer>(2);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      assertThat(ringBuffer.offer(i)).isTrue();
+      assertThat(ringBuffer.poll()).isEqualTo(i);
+    }
+
+    // then
+    assertThat(ringBuffer.poll()).isNull();
+  }
+}
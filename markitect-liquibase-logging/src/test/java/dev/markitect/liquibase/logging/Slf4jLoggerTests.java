@@ -16,9 +16,12 @@
 
 package dev.markitect.liquibase.logging;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.inOrder;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -84,4 +87,30 @@ class Slf4jLoggerTests {
     then(logger).should(inOrder).trace("ft", (Throwable) null);
     then(logger).shouldHaveNoMoreInteractions();
   }
+
+  @Test
+  void log_supplier() {
+    // given
+    given(logger.isInfoEnabled()).willReturn(true);
+    var slf4jLogger = new Slf4jLogger<>(logger);
+    var calls = new AtomicInteger();
+
+    // when
+    slf4jLogger.log(
+        Level.FINE,
+        () -> {
+          calls.incrementAndGet();
+          return "f";
+        });
+    slf4jLogger.log(
+        Level.INFO,
+        () -> {
+          calls.incrementAndGet();
+          return "i";
+        });
+
+    // then
+    assertThat(calls).hasValue(1);
+    then(logger).should().info("i", (Throwable) null);
+  }
 }
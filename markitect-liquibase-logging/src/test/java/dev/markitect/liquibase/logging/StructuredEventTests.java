@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Markitect
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.markitect.liquibase.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.junit.jupiter.api.Test;
+
+class StructuredEventTests {
+  @Test
+  void build() {
+    // when
+    var event =
+        StructuredEvent.builder("Ran").with("id", "1").with("rows", 2L).with("file", null).build();
+
+    // then
+    assertThat(event.getMessage()).isEqualTo("Ran");
+    assertThat(event.getKeys()).containsExactly("id", "rows", "file");
+    assertThat(event.getValues()).containsExactly("1", 2L, null);
+    assertThat(event).hasToString("Ran id=1, rows=2, file=null");
+  }
+
+  @Test
+  void with_duplicateKey() {
+    // given
+    var builder = StructuredEvent.builder("Ran").with("id", "1");
+
+    // when
+    var thrown = catchThrowable(() -> builder.with("id", "2"));
+
+    // then
+    assertThat(thrown).isInstanceOf(IllegalArgumentException.class).hasMessage("Duplicate key: id");
+  }
+}
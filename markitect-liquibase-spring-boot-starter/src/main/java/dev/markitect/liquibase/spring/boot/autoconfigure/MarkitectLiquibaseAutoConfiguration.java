@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2025 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -168,6 +168,8 @@ public class MarkitectLiquibaseAutoConfiguration {
       customizers.orderedStream().forEach(customizer -> customizer.customize(liquibase));
       liquibase.setOutputDefaultCatalog(markitectProperties.isOutputDefaultCatalog());
       liquibase.setOutputDefaultSchema(markitectProperties.isOutputDefaultSchema());
+      liquibase.setMemoizePreconditions(markitectProperties.isMemoizePreconditions());
+      liquibase.setLogMigrationEvents(markitectProperties.isLogMigrationEvents());
       return liquibase;
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,12 @@ public class MarkitectLiquibaseProperties {
   /** Whether to qualify the names of objects in the default schema. */
   private boolean outputDefaultSchema;
 
+  /** Whether to reuse precondition results until a schema or database change runs. */
+  private boolean memoizePreconditions;
+
+  /** Whether to log a structured event with the timing of each change set. */
+  private boolean logMigrationEvents;
+
   /** Additional properties used to configure Liquibase. */
   private final Map<String, String> properties = new HashMap<>();
 
@@ -53,6 +59,26 @@ public class MarkitectLiquibaseProperties {
     return this;
   }
 
+  public boolean isMemoizePreconditions() {
+    return memoizePreconditions;
+  }
+
+  @CanIgnoreReturnValue
+  public MarkitectLiquibaseProperties setMemoizePreconditions(boolean memoizePreconditions) {
+    this.memoizePreconditions = memoizePreconditions;
+    return this;
+  }
+
+  public boolean isLogMigrationEvents() {
+    return logMigrationEvents;
+  }
+
+  @CanIgnoreReturnValue
+  public MarkitectLiquibaseProperties setLogMigrationEvents(boolean logMigrationEvents) {
+    this.logMigrationEvents = logMigrationEvents;
+    return this;
+  }
+
   @SuppressFBWarnings("EI_EXPOSE_REP")
   public Map<String, String> getProperties() {
     return properties;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,8 +31,10 @@ class MarkitectLiquibasePropertiesTests {
         .extracting(
             MarkitectLiquibaseProperties::isOutputDefaultCatalog,
             MarkitectLiquibaseProperties::isOutputDefaultSchema,
+            MarkitectLiquibaseProperties::isMemoizePreconditions,
+            MarkitectLiquibaseProperties::isLogMigrationEvents,
             MarkitectLiquibaseProperties::getProperties)
-        .containsExactly(false, false, Map.of());
+        .containsExactly(false, false, false, false, Map.of());
   }
 
   @Test
@@ -40,6 +42,8 @@ class MarkitectLiquibasePropertiesTests {
     // when
     markitectLiquibaseProperties.setOutputDefaultCatalog(true);
     markitectLiquibaseProperties.setOutputDefaultSchema(true);
+    markitectLiquibaseProperties.setMemoizePreconditions(true);
+    markitectLiquibaseProperties.setLogMigrationEvents(true);
     markitectLiquibaseProperties.getProperties().put("liquibase.sql.logLevel", "info");
 
     // then
@@ -47,7 +51,9 @@ class MarkitectLiquibasePropertiesTests {
         .extracting(
             MarkitectLiquibaseProperties::isOutputDefaultCatalog,
             MarkitectLiquibaseProperties::isOutputDefaultSchema,
+            MarkitectLiquibaseProperties::isMemoizePreconditions,
+            MarkitectLiquibaseProperties::isLogMigrationEvents,
             MarkitectLiquibaseProperties::getProperties)
-        .containsExactly(true, true, Map.of("liquibase.sql.logLevel", "info"));
+        .containsExactly(true, true, true, true, Map.of("liquibase.sql.logLevel", "info"));
   }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,20 @@
 
 package dev.markitect.liquibase.spring;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dev.markitect.liquibase.database.ConnectionSupplier;
+import dev.markitect.liquibase.database.ExistenceCache;
+import dev.markitect.liquibase.database.PreparedStatementCache;
+import dev.markitect.liquibase.logging.MigrationEventListener;
+import dev.markitect.liquibase.precondition.PreconditionMemo;
 import java.sql.Connection;
+import java.util.LinkedHashMap;
+import liquibase.Liquibase;
+import liquibase.Scope;
 import liquibase.database.Database;
 import liquibase.exception.DatabaseException;
+import liquibase.exception.LiquibaseException;
 import liquibase.integration.spring.SpringLiquibase;
 import liquibase.resource.ResourceAccessor;
 import org.jspecify.annotations.Nullable;
@@ -26,6 +37,8 @@ import org.jspecify.annotations.Nullable;
 public class MarkitectSpringLiquibase extends SpringLiquibase {
   protected boolean outputDefaultCatalog;
   protected boolean outputDefaultSchema;
+  protected boolean memoizePreconditions;
+  protected boolean logMigrationEvents;
 
   @Override
   protected Database createDatabase(@Nullable Connection c, ResourceAccessor resourceAccessor)
@@ -36,6 +49,45 @@ public class MarkitectSpringLiquibase extends SpringLiquibase {
     return database;
   }
 
+  @Override
+  protected void performUpdate(Liquibase liquibase) throws LiquibaseException {
+    checkNotNull(liquibase);
+    var scopeValues = new LinkedHashMap<String, Object>();
+    scopeValues.put(ExistenceCache.ENABLED_SCOPE_KEY, true);
+    var dataSource = getDataSource();
+    if (dataSource != null) {
+      // Lets changes such as a parallel loadData open further connections to the same database
+      ConnectionSupplier connectionSupplier = dataSource::getConnection;
+      scopeValues.put(ConnectionSupplier.SCOPE_KEY, connectionSupplier);
+    }
+    if (memoizePreconditions) {
+      scopeValues.put(PreconditionMemo.ENABLED_SCOPE_KEY, true);
+    }
+    var migrationEventListener = logMigrationEvents ? new MigrationEventListener() : null;
+    if (migrationEventListener != null) {
+      liquibase.setChangeExecListener(migrationEventListener);
+    }
+    try {
+      Scope.child(
+          scopeValues,
+          () -> {
+            if (migrationEventListener != null) {
+              // Lets the listener count the SQL that the executor runs
+              Scope.child(migrationEventListener, () -> super.performUpdate(liquibase));
+            } else {
+              super.performUpdate(liquibase);
+            }
+          });
+    } catch (LiquibaseException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new LiquibaseException(e);
+    } finally {
+      ExistenceCache.invalidate(liquibase.getDatabase());
+      PreparedStatementCache.invalidate(liquibase.getDatabase());
+    }
+  }
+
   public void setOutputDefaultCatalog(boolean outputDefaultCatalog) {
     this.outputDefaultCatalog = outputDefaultCatalog;
   }
@@ -43,4 +95,12 @@ public class MarkitectSpringLiquibase extends SpringLiquibase {
   public void setOutputDefaultSchema(boolean outputDefaultSchema) {
     this.outputDefaultSchema = outputDefaultSchema;
   }
+
+  public void setMemoizePreconditions(boolean memoizePreconditions) {
+    this.memoizePreconditions = memoizePreconditions;
+  }
+
+  public void setLogMigrationEvents(boolean logMigrationEvents) {
+    this.logMigrationEvents = logMigrationEvents;
+  }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2023-2024 Markitect
+ * Copyright 2023-2026 Markitect
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,17 +18,35 @@ package dev.markitect.liquibase.spring;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
 
+import dev.markitect.liquibase.logging.MarkitectLogger;
+import dev.markitect.liquibase.logging.MigrationEventListener;
+import dev.markitect.liquibase.logging.StructuredEvent;
+import java.util.logging.Level;
 import javax.sql.DataSource;
+import liquibase.Scope;
 import liquibase.integration.spring.SpringResourceAccessor;
+import liquibase.logging.LogService;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 
 @ExtendWith(MockitoExtension.class)
 class MarkitectSpringLiquibaseTests {
@@ -38,6 +56,12 @@ class MarkitectSpringLiquibaseTests {
 
   @Mock private ResourceLoader resourceLoader;
 
+  @Mock private LogService logService;
+
+  @Mock private MarkitectLogger logger;
+
+  @Captor private ArgumentCaptor<StructuredEvent> eventCaptor;
+
   @InjectMocks private MarkitectSpringLiquibase liquibase;
 
   @BeforeEach
@@ -73,4 +97,44 @@ class MarkitectSpringLiquibaseTests {
     assertThat(database.getOutputDefaultCatalog()).isEqualTo(outputDefaultCatalog);
     assertThat(database.getOutputDefaultSchema()).isEqualTo(outputDefaultSchema);
   }
+
+  @Test
+  void performUpdate_logMigrationEvents() throws Exception {
+    // given
+    var h2Liquibase = new MarkitectSpringLiquibase();
+    h2Liquibase.setDataSource(
+        new EmbeddedDatabaseBuilder()
+            .generateUniqueName(true)
+            .setType(EmbeddedDatabaseType.H2)
+            .build());
+    h2Liquibase.setResourceLoader(new DefaultResourceLoader());
+    h2Liquibase.setChangeLog("db/changelog/db.changelog-events.xml");
+    h2Liquibase.setLogMigrationEvents(true);
+    given(logService.getLog(any())).willReturn(logger);
+    given(logger.isLoggable(any())).willReturn(true);
+
+    // when
+    Scope.child(Scope.Attr.logService.name(), logService, h2Liquibase::afterPropertiesSet);
+
+    // then
+    then(logger).should(atLeastOnce()).log(eq(Level.INFO), eventCaptor.capture());
+    var events =
+        eventCaptor.getAllValues().stream()
+            .filter(event -> MigrationEventListener.MESSAGE.equals(event.getMessage()))
+            .toList();
+    assertThat(events)
+        .extracting(event -> getValue(event, MigrationEventListener.CHANGE_SET_ID_KEY))
+        .containsExactly("1", "2");
+    assertThat(events)
+        .extracting(event -> getValue(event, MigrationEventListener.ROWS_AFFECTED_KEY))
+        .doesNotContainNull();
+    assertThat(getValue(events.get(1), MigrationEventListener.ROWS_AFFECTED_KEY)).isEqualTo(2L);
+    assertThat(events)
+        .extracting(event -> getValue(event, MigrationEventListener.SQL_COUNT_KEY))
+        .doesNotContain(0);
+  }
+
+  private static @Nullable Object getValue(StructuredEvent event, String key) {
+    return event.getValues().get(event.getKeys().indexOf(key));
+  }
 }